@@ -37,6 +37,7 @@ public final class SpongeTimings {
 
     public static final Timing playerListTimer = SpongeTimingsFactory.ofSafe("Player List");
     public static final Timing connectionTimer = SpongeTimingsFactory.ofSafe("Connection Handler");
+    public static final Timing playerLoginTimer = SpongeTimingsFactory.ofSafe("Player Login");
     public static final Timing tickablesTimer = SpongeTimingsFactory.ofSafe("Tickables");
     public static final Timing schedulerTimer = SpongeTimingsFactory.ofSafe("Scheduler");
     public static final Timing chunkIOTickTimer = SpongeTimingsFactory.ofSafe("ChunkIOTick");
@@ -174,6 +174,10 @@ public void generateReport(CommandSource sender) {
         TimingsExport.reportTimings(sender);
     }
 
+    public static void exportReport(CommandSource sender) {
+        TimingsExport.reportTimings(sender, true);
+    }
+
     public static long getCost() {
         return TimingsExport.getCost();
     }
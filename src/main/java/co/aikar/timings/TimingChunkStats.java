@@ -0,0 +1,193 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import co.aikar.util.JSONUtil;
+import co.aikar.util.LoadingMap;
+import co.aikar.util.MRUMapCache;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.minecraft.block.Block;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.tileentity.TileEntity;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.api.world.Chunk;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.entity.SpongeEntityType;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the per chunk entity and tile entity counts that are attached to
+ * each {@link TimingHistory}.
+ *
+ * <p>Walking every loaded chunk of every world at the moment a history frame
+ * is captured causes a noticeable tick spike on large servers, so instead the
+ * loaded chunks are visited a few at a time every tick, one world after the
+ * other. Once every world has been visited the gathered data becomes the
+ * published pass which is handed to the next history frames.</p>
+ */
+final class TimingChunkStats {
+
+    private final Map<EntityType, TimingHistory.Counter> entityCounts =
+            MRUMapCache.of(LoadingMap.of(Maps.newHashMap(), TimingHistory.Counter.loader()));
+    private final Map<BlockType, TimingHistory.Counter> tileEntityCounts =
+            MRUMapCache.of(LoadingMap.of(Maps.newHashMap(), TimingHistory.Counter.loader()));
+
+    private final Deque<World> pendingWorlds = new ArrayDeque<>();
+    private final Deque<Chunk> pendingChunks = new ArrayDeque<>();
+    private Pass current = new Pass();
+    private Pass published;
+    private JsonArray currentWorld;
+    private boolean scanning;
+
+    /**
+     * Visits up to the given amount of loaded chunks, starting a new pass
+     * over all worlds when the previous one completed.
+     *
+     * @param budget The maximum amount of chunks to visit
+     */
+    void tick(int budget) {
+        int visited = 0;
+        while (visited < budget) {
+            if (this.pendingChunks.isEmpty() && !nextWorld()) {
+                // Every world was visited, publish and start over next tick
+                if (this.scanning) {
+                    this.published = this.current;
+                    this.current = new Pass();
+                }
+                this.scanning = true;
+                this.pendingWorlds.addAll(SpongeImpl.getGame().getServer().getWorlds());
+                return;
+            }
+            final Chunk chunk = this.pendingChunks.poll();
+            if (chunk.isLoaded()) {
+                visit(chunk, this.currentWorld, this.current);
+            }
+            visited++;
+        }
+    }
+
+    private boolean nextWorld() {
+        while (!this.pendingWorlds.isEmpty()) {
+            final World world = this.pendingWorlds.poll();
+            if (!world.isLoaded()) {
+                continue;
+            }
+            this.currentWorld = new JsonArray();
+            this.current.worlds.add(String.valueOf(TimingHistory.worldMap.get(world.getName())), this.currentWorld);
+            for (Chunk chunk : world.getLoadedChunks()) {
+                this.pendingChunks.add(chunk);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the chunk data to attach to a new {@link TimingHistory}.
+     *
+     * <p>If no pass completed yet, or incremental collection is disabled, all
+     * loaded chunks are visited immediately.</p>
+     *
+     * @param entityTypes The set to add seen entity types to
+     * @param blockTypes The set to add seen tile entity block types to
+     * @return The chunk data, keyed by world id
+     */
+    JsonObject export(Set<EntityType> entityTypes, Set<BlockType> blockTypes) {
+        Pass pass = this.published;
+        if (pass == null) {
+            pass = new Pass();
+            for (World world : SpongeImpl.getGame().getServer().getWorlds()) {
+                final JsonArray chunks = new JsonArray();
+                for (Chunk chunk : world.getLoadedChunks()) {
+                    visit(chunk, chunks, pass);
+                }
+                pass.worlds.add(String.valueOf(TimingHistory.worldMap.get(world.getName())), chunks);
+            }
+        }
+        entityTypes.addAll(pass.entityTypeSet);
+        blockTypes.addAll(pass.blockTypeSet);
+        return pass.worlds;
+    }
+
+    void reset() {
+        this.pendingWorlds.clear();
+        this.pendingChunks.clear();
+        this.current = new Pass();
+        this.published = null;
+        this.scanning = false;
+    }
+
+    private void visit(Chunk chunk, JsonArray chunks, Pass pass) {
+        this.entityCounts.clear();
+        this.tileEntityCounts.clear();
+
+        for (Entity entity : chunk.getEntities()) {
+            if (entity.getType() == null) {
+                SpongeImpl.getLogger().error("Entity is not registered {}", entity);
+                continue;
+            }
+            this.entityCounts.get(entity.getType()).increment();
+        }
+
+        for (TileEntity tileEntity : chunk.getTileEntities()) {
+            this.tileEntityCounts.get(tileEntity.getBlock().getType()).increment();
+        }
+
+        if (this.tileEntityCounts.isEmpty() && this.entityCounts.isEmpty()) {
+            return;
+        }
+        chunks.add(JSONUtil.arrayOf(
+                chunk.getPosition().getX(),
+                chunk.getPosition().getZ(),
+                JSONUtil.mapArrayToObject(this.entityCounts.entrySet(), (entry) -> {
+                    if (entry.getKey() == EntityTypes.UNKNOWN) {
+                        return null;
+                    }
+                    pass.entityTypeSet.add(entry.getKey());
+                    return JSONUtil.singleObjectPair(((SpongeEntityType) entry.getKey()).entityTypeId, entry.getValue().count());
+                }),
+                JSONUtil.mapArrayToObject(this.tileEntityCounts.entrySet(), (entry) -> {
+                    pass.blockTypeSet.add(entry.getKey());
+                    return JSONUtil.singleObjectPair(Block.getIdFromBlock((Block) entry.getKey()), entry.getValue().count());
+                })));
+    }
+
+    private static final class Pass {
+
+        final JsonObject worlds = new JsonObject();
+        final Set<BlockType> blockTypeSet = Sets.newHashSet();
+        final Set<EntityType> entityTypeSet = Sets.newHashSet();
+    }
+}
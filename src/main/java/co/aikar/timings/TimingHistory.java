@@ -29,20 +29,13 @@
 
 import co.aikar.util.JSONUtil;
 import co.aikar.util.LoadingMap;
-import co.aikar.util.MRUMapCache;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
-import net.minecraft.block.Block;
 import org.spongepowered.api.block.BlockType;
-import org.spongepowered.api.block.tileentity.TileEntity;
-import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityType;
-import org.spongepowered.api.entity.EntityTypes;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.common.SpongeImpl;
-import org.spongepowered.common.entity.SpongeEntityType;
 
 import java.lang.management.ManagementFactory;
 import java.util.Collection;
@@ -94,46 +87,8 @@ public class TimingHistory {
             this.entries[i++] = new TimingHistoryEntry(handler);
         }
 
-        final Map<EntityType, Counter> entityCounts = MRUMapCache.of(LoadingMap.of(Maps.newHashMap(), Counter.loader()));
-        final Map<BlockType, Counter> tileEntityCounts = MRUMapCache.of(LoadingMap.of(Maps.newHashMap(), Counter.loader()));
-        // Information about all loaded chunks/entities
-        this.worlds = JSONUtil.mapArrayToObject(SpongeImpl.getGame().getServer().getWorlds(), (world) -> {
-            return JSONUtil.singleObjectPair(String.valueOf(worldMap.get(world.getName())), JSONUtil.mapArray(world.getLoadedChunks(), (chunk) -> {
-                entityCounts.clear();
-                tileEntityCounts.clear();
-
-                for (Entity entity : chunk.getEntities()) {
-                    if (entity.getType() == null) {
-                        SpongeImpl.getLogger().error("Entity is not registered {}", entity);
-                        continue;
-                    }
-                    entityCounts.get(entity.getType()).increment();
-                }
-
-                for (TileEntity tileEntity : chunk.getTileEntities()) {
-                    tileEntityCounts.get(tileEntity.getBlock().getType()).increment();
-                }
-
-                if (tileEntityCounts.isEmpty() && entityCounts.isEmpty()) {
-                    return null;
-                }
-                return JSONUtil.arrayOf(
-                        chunk.getPosition().getX(),
-                        chunk.getPosition().getZ(),
-                        JSONUtil.mapArrayToObject(entityCounts.entrySet(), (entry) -> {
-                            if (entry.getKey() == EntityTypes.UNKNOWN) {
-                                return null;
-                            }
-                            this.entityTypeSet.add(entry.getKey());
-                            return JSONUtil.singleObjectPair(((SpongeEntityType) entry.getKey()).entityTypeId, entry.getValue().count());
-                        }),
-                        JSONUtil.mapArrayToObject(tileEntityCounts.entrySet(), (entry) -> {
-                            this.blockTypeSet.add(entry.getKey());
-                            return JSONUtil.singleObjectPair(Block.getIdFromBlock((Block) entry.getKey()), entry.getValue().count());
-                        }));
-            }));
-        });
-
+        // Information about all loaded chunks/entities, gathered incrementally
+        this.worlds = TimingsManager.CHUNK_STATS.export(this.entityTypeSet, this.blockTypeSet);
     }
 
     public static void resetTicks(boolean fullReset) {
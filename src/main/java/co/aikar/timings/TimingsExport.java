@@ -34,6 +34,7 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import net.minecraft.block.Block;
 import ninja.leaping.configurate.ConfigurationNode;
 import org.spongepowered.api.Platform;
@@ -48,36 +49,48 @@
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.TimingsCategory;
 import org.spongepowered.common.entity.SpongeEntityType;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
+
 class TimingsExport extends Thread {
 
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
     private static final Joiner RUNTIME_FLAG_JOINER = Joiner.on(" ");
     private static final Joiner CONFIG_PATH_JOINER = Joiner.on(".");
+    private static final DateTimeFormatter FILE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
 
     private final CommandSource sender;
     private final JsonObject out;
     private final TimingHistory[] history;
+    @Nullable private final Path exportDirectory;
 
-    TimingsExport(CommandSource sender, JsonObject out, TimingHistory[] history) {
+    TimingsExport(CommandSource sender, JsonObject out, TimingHistory[] history, @Nullable Path exportDirectory) {
         super("Timings paste thread");
         this.sender = sender;
         this.out = out;
         this.history = history;
+        this.exportDirectory = exportDirectory;
     }
 
     private static String getServerName() {
@@ -85,11 +98,24 @@ private static String getServerName() {
     }
 
     /**
-     * Builds an XML report of the timings to be uploaded for parsing.
+     * Builds a JSON report of the timings to be uploaded for parsing, or to
+     * be written to a local file if configured to do so.
      *
      * @param sender Who to report to
      */
     static void reportTimings(CommandSource sender) {
+        reportTimings(sender, SpongeImpl.getGlobalConfig().getConfig().getTimings().isExportToFile());
+    }
+
+    /**
+     * Builds a JSON report of the timings.
+     *
+     * @param sender Who to report to
+     * @param toFile Whether to write the report to a local file instead of
+     *     uploading it
+     */
+    static void reportTimings(CommandSource sender, boolean toFile) {
+        final TimingsCategory config = SpongeImpl.getGlobalConfig().getConfig().getTimings();
         Platform platform = SpongeImpl.getGame().getPlatform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
                 // Get some basic system details about the server
@@ -183,7 +209,8 @@ static void reportTimings(CommandSource sender) {
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", serializeConfigNode(SpongeImpl.getGlobalConfig().getRootNode())));
 
-        new TimingsExport(sender, builder.build(), history).start();
+        final Path exportDirectory = toFile ? SpongeImpl.getGameDir().resolve(config.getExportDirectory()) : null;
+        new TimingsExport(sender, builder.build(), history, exportDirectory).start();
     }
 
     static long getCost() {
@@ -259,6 +286,11 @@ public synchronized void start() {
     public void run() {
         this.sender.sendMessage(Text.of(TextColors.GREEN, "Preparing Timings Report..."));
 
+        if (this.exportDirectory != null) {
+            writeToFile(this.exportDirectory);
+            return;
+        }
+
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
         String response = null;
@@ -315,6 +347,45 @@ public void run() {
         }
     }
 
+    /**
+     * Streams the report to a gzip compressed file. The history frames are
+     * serialized one at a time so the full report never has to be held in
+     * memory, and the resulting file has the same layout as an uploaded
+     * report.
+     *
+     * @param directory The directory to write the report to
+     */
+    private void writeToFile(Path directory) {
+        final Path file = directory.resolve("timings-" + FILE_DATE_FORMATTER.format(LocalDateTime.now()) + ".json.gz");
+        try {
+            Files.createDirectories(directory);
+            try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)),
+                    StandardCharsets.UTF_8))) {
+                writer.beginObject();
+                for (Entry<String, JsonElement> entry : this.out.entrySet()) {
+                    writer.name(entry.getKey());
+                    JSONUtil.write(entry.getValue(), writer);
+                }
+                writer.name("data").beginArray();
+                for (TimingHistory timingHistory : this.history) {
+                    JSONUtil.write(timingHistory.export(), writer);
+                }
+                writer.endArray();
+                writer.endObject();
+            }
+        } catch (IOException ex) {
+            this.sender.sendMessage(Text.of(TextColors.RED, "Error writing timings, check your logs for more information"));
+            SpongeImpl.getLogger().fatal("Could not write timings to " + file, ex);
+            return;
+        }
+
+        final String location = file.toAbsolutePath().toString();
+        this.sender.sendMessage(Text.of(TextColors.GREEN, "Timings Report written to: ", location));
+        if (!(this.sender instanceof ConsoleSource)) {
+            SpongeImpl.getLogger().info("Timings Report written to: " + location);
+        }
+    }
+
     private String getResponse(HttpURLConnection con) throws IOException {
         InputStream is = null;
         try {
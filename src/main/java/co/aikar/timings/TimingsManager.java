@@ -54,6 +54,7 @@ public final class TimingsManager {
 
     static final Collection<TimingHandler> HANDLERS = new ArrayDeque<>();
     static final ArrayDeque<TimingHistory.MinuteReport> MINUTE_REPORTS = new ArrayDeque<>();
+    static final TimingChunkStats CHUNK_STATS = new TimingChunkStats();
 
     static EvictingQueue<TimingHistory> HISTORY = EvictingQueue.create(12);
     static TimingHandler CURRENT;
@@ -88,6 +89,11 @@ static void tick() {
                 handler.processTick(violated);
             }
 
+            final int chunkStatsPerTick = SpongeImpl.getGlobalConfig().getConfig().getTimings().getChunkStatsPerTick();
+            if (chunkStatsPerTick > 0) {
+                CHUNK_STATS.tick(chunkStatsPerTick);
+            }
+
             TimingHistory.playerTicks += SpongeImpl.getGame().getServer().getOnlinePlayers().size();
             TimingHistory.timedTicks++;
             // Generate TPS/Ping/Tick reports every minute
@@ -121,6 +127,7 @@ static void resetTimings() {
                 SpongeImpl.getLogger().info("Timings reset");
             }
             HISTORY.clear();
+            CHUNK_STATS.reset();
             needsFullReset = false;
             needsRecheckEnabled = false;
             timingStart = System.currentTimeMillis();
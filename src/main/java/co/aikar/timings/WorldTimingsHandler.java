@@ -50,6 +50,7 @@ public class WorldTimingsHandler {
     public final Timing entityRemoval;
     public final Timing entityTick;
     public final Timing tileEntityTick;
+    public final Timing tileEntityParallelTick;
     public final Timing tileEntityPending;
     public final Timing tileEntityRemoval;
     public final Timing tracker1;
@@ -97,6 +98,7 @@ public WorldTimingsHandler(World world) {
         this.entityTick = SpongeTimingsFactory.ofSafe(name + "entityTick");
         this.entityRemoval = SpongeTimingsFactory.ofSafe(name + "entityRemoval");
         this.tileEntityTick = SpongeTimingsFactory.ofSafe(name + "tileEntityTick");
+        this.tileEntityParallelTick = SpongeTimingsFactory.ofSafe(name + "tileEntityParallelTick");
         this.tileEntityPending = SpongeTimingsFactory.ofSafe(name + "tileEntityPending");
         this.tileEntityRemoval = SpongeTimingsFactory.ofSafe(name + "tileEntityRemoval");
 
@@ -75,6 +75,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.block.BlockPhase;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -247,7 +248,11 @@ public static MapStorage getWorldMapStorage(World world) {
     }
 
     public static int countEntities(WorldServer worldServer, net.minecraft.entity.EnumCreatureType type, boolean forSpawnCount) {
-        return worldServer.countEntities(type.getCreatureClass());
+        return ((IMixinWorldServer) worldServer).countCreatures(type);
+    }
+
+    public static boolean isCreatureOfType(Entity entity, net.minecraft.entity.EnumCreatureType type) {
+        return type.getCreatureClass().isAssignableFrom(entity.getClass());
     }
 
     public static int getMaxSpawnPackSize(EntityLiving entityLiving) {
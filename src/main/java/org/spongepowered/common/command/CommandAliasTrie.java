@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A prefix tree over registered command aliases, allowing all aliases that
+ * start with a given prefix to be found without testing every registered
+ * alias.
+ *
+ * <p>Aliases are stored lower case, like the dispatcher does, and are
+ * reference counted so an alias shared by multiple mappings stays present
+ * until every mapping using it was removed. Aliases are returned in
+ * lexicographic order.</p>
+ */
+final class CommandAliasTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds an alias to this trie.
+     *
+     * @param alias The alias
+     */
+    void add(String alias) {
+        Node node = this.root;
+        final String lowerAlias = checkNotNull(alias, "alias").toLowerCase(Locale.ENGLISH);
+        for (int i = 0; i < lowerAlias.length(); i++) {
+            node = node.children.computeIfAbsent(lowerAlias.charAt(i), c -> new Node());
+        }
+        if (node.count++ == 0) {
+            this.size++;
+        }
+    }
+
+    /**
+     * Removes one reference to an alias from this trie.
+     *
+     * @param alias The alias
+     * @return True if the alias is no longer present
+     */
+    boolean remove(String alias) {
+        final String lowerAlias = checkNotNull(alias, "alias").toLowerCase(Locale.ENGLISH);
+        final Node[] path = new Node[lowerAlias.length() + 1];
+        Node node = this.root;
+        path[0] = node;
+        for (int i = 0; i < lowerAlias.length(); i++) {
+            node = node.children.get(lowerAlias.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            path[i + 1] = node;
+        }
+        if (node.count == 0 || --node.count > 0) {
+            return false;
+        }
+        this.size--;
+        // Prune the nodes that no longer lead to any alias
+        for (int i = lowerAlias.length(); i > 0 && path[i].count == 0 && path[i].children.isEmpty(); i--) {
+            path[i - 1].children.remove(lowerAlias.charAt(i - 1));
+        }
+        return true;
+    }
+
+    boolean contains(String alias) {
+        final Node node = find(checkNotNull(alias, "alias").toLowerCase(Locale.ENGLISH));
+        return node != null && node.count > 0;
+    }
+
+    /**
+     * Gets all aliases starting with the given prefix, ignoring case.
+     *
+     * @param prefix The prefix
+     * @return The matching aliases, in lexicographic order
+     */
+    List<String> getWithPrefix(String prefix) {
+        final String lowerPrefix = checkNotNull(prefix, "prefix").toLowerCase(Locale.ENGLISH);
+        final Node node = find(lowerPrefix);
+        if (node == null) {
+            return new ArrayList<>();
+        }
+        final List<String> aliases = new ArrayList<>();
+        collect(node, new StringBuilder(lowerPrefix), aliases);
+        return aliases;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    void clear() {
+        this.root.children.clear();
+        this.size = 0;
+    }
+
+    private Node find(String lowerAlias) {
+        Node node = this.root;
+        for (int i = 0; i < lowerAlias.length() && node != null; i++) {
+            node = node.children.get(lowerAlias.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, StringBuilder builder, List<String> aliases) {
+        if (node.count > 0) {
+            aliases.add(builder.toString());
+        }
+        for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+            builder.append(entry.getKey().charValue());
+            collect(entry.getValue(), builder, aliases);
+            builder.setLength(builder.length() - 1);
+        }
+    }
+
+    private static final class Node {
+
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        int count;
+
+    }
+}
@@ -28,6 +28,8 @@
 import static org.spongepowered.api.command.CommandMessageFormatting.error;
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -71,9 +73,11 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -90,6 +94,8 @@ public class SpongeCommandManager implements CommandManager {
     private final Multimap<PluginContainer, CommandMapping> owners = HashMultimap.create();
     private final Map<CommandMapping, PluginContainer> reverseOwners = new ConcurrentHashMap<>();
     private final Object lock = new Object();
+    private final CommandAliasTrie aliasTrie = new CommandAliasTrie();
+    @Nullable private final Cache<CompletionKey, List<String>> completionCache;
 
     /**
      * Construct a simple {@link CommandManager}.
@@ -110,6 +116,11 @@ public SpongeCommandManager(Logger logger) {
     public SpongeCommandManager(Logger logger, Disambiguator disambiguator) {
         this.log = logger;
         this.dispatcher = new SimpleDispatcher(disambiguator);
+        final int completionCacheMillis = SpongeImpl.getGlobalConfig().getConfig().getCommands().getCompletionCacheMillis();
+        this.completionCache = completionCacheMillis <= 0 ? null : CacheBuilder.newBuilder()
+                .expireAfterWrite(completionCacheMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(1024)
+                .build();
     }
 
     @Override
@@ -162,6 +173,10 @@ public Optional<CommandMapping> register(Object plugin, CommandCallable callable
             if (mapping.isPresent()) {
                 this.owners.put(container, mapping.get());
                 this.reverseOwners.put(mapping.get(), container);
+                for (String registeredAlias : mapping.get().getAllAliases()) {
+                    this.aliasTrie.add(registeredAlias);
+                }
+                invalidateCompletions();
             }
 
             return mapping;
@@ -175,12 +190,22 @@ public Optional<CommandMapping> removeMapping(CommandMapping mapping) {
 
             if (removed.isPresent()) {
                 forgetMapping(removed.get());
+                for (String alias : removed.get().getAllAliases()) {
+                    this.aliasTrie.remove(alias);
+                }
+                invalidateCompletions();
             }
 
             return removed;
         }
     }
 
+    private void invalidateCompletions() {
+        if (this.completionCache != null) {
+            this.completionCache.invalidateAll();
+        }
+    }
+
     private void forgetMapping(CommandMapping mapping) {
         Iterator<CommandMapping> it = this.owners.values().iterator();
         while (it.hasNext()) {
@@ -263,7 +288,7 @@ public boolean containsMapping(CommandMapping mapping) {
 
     @Override
     public CommandResult process(CommandSource source, String commandLine) {
-        final String[] argSplit = commandLine.split(" ", 2);
+        final String[] argSplit = splitCommand(commandLine);
         final SendCommandEvent event = SpongeEventFactory.createSendCommandEvent(Cause.of(NamedCause.source(source)),
             argSplit.length > 1 ? argSplit[1] : "", argSplit[0], CommandResult.empty());
         Sponge.getGame().getEventManager().post(event);
@@ -349,8 +374,8 @@ public List<String> getSuggestions(CommandSource src, String arguments, @Nullabl
 
     public List<String> getSuggestions(CommandSource src, String arguments, @Nullable Location<World> targetPosition, boolean usingBlock) {
         try {
-            final String[] argSplit = arguments.split(" ", 2);
-            List<String> suggestions = new ArrayList<>(this.dispatcher.getSuggestions(src, arguments, targetPosition));
+            final String[] argSplit = splitCommand(arguments);
+            List<String> suggestions = new ArrayList<>(this.getDispatcherSuggestions(src, arguments, argSplit, targetPosition));
             final TabCompleteEvent.Command event = SpongeEventFactory.createTabCompleteEventCommand(Cause.source(src).build(),
                     ImmutableList.copyOf(suggestions), suggestions, argSplit.length > 1 ? argSplit[1] : "", argSplit[0], arguments, Optional.ofNullable(targetPosition), usingBlock); // TODO zml: Should this be exposed in the API?
             Sponge.getGame().getEventManager().post(event);
@@ -367,6 +392,60 @@ public List<String> getSuggestions(CommandSource src, String arguments, @Nullabl
         }
     }
 
+    /**
+     * Gets the suggestions of the dispatcher, before they are passed through
+     * a {@link TabCompleteEvent}. Suggestions are cached for a short time per
+     * source and input, so repeated completion packets for the same input
+     * don't recompute them.
+     */
+    private List<String> getDispatcherSuggestions(CommandSource src, String arguments, String[] argSplit,
+            @Nullable Location<World> targetPosition) throws CommandException {
+        final CompletionKey key = this.completionCache == null ? null : new CompletionKey(src.getIdentifier(), arguments, targetPosition);
+        if (key != null) {
+            final List<String> cached = this.completionCache.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final List<String> suggestions;
+        if (argSplit.length == 1) {
+            // Completing the command itself, only consider aliases with the typed prefix
+            final List<String> aliases;
+            synchronized (this.lock) {
+                aliases = this.aliasTrie.getWithPrefix(argSplit[0]);
+            }
+            final List<String> permitted = new ArrayList<>(aliases.size());
+            for (String alias : aliases) {
+                for (CommandMapping mapping : this.dispatcher.getAll(alias)) {
+                    if (mapping.getCallable().testPermission(src)) {
+                        permitted.add(alias);
+                        break;
+                    }
+                }
+            }
+            suggestions = ImmutableList.copyOf(permitted);
+        } else {
+            suggestions = ImmutableList.copyOf(this.dispatcher.getSuggestions(src, arguments, targetPosition));
+        }
+        if (key != null) {
+            this.completionCache.put(key, suggestions);
+        }
+        return suggestions;
+    }
+
+    /**
+     * Splits a command line into the command and its arguments, if any.
+     * Equivalent to {@code commandLine.split(" ", 2)} without compiling a
+     * pattern or allocating an intermediate list.
+     */
+    private static String[] splitCommand(String commandLine) {
+        final int index = commandLine.indexOf(' ');
+        if (index == -1) {
+            return new String[] {commandLine};
+        }
+        return new String[] {commandLine.substring(0, index), commandLine.substring(index + 1)};
+    }
+
     @Override
     public boolean testPermission(CommandSource source) {
         return this.dispatcher.testPermission(source);
@@ -397,4 +476,38 @@ private void completeCommandPhase() {
             CauseTracker.getInstance().completePhase(GeneralPhase.State.COMMAND);
         }
     }
+
+    private static final class CompletionKey {
+
+        private final String source;
+        private final String arguments;
+        @Nullable private final Location<World> targetPosition;
+        private final int hashCode;
+
+        CompletionKey(String source, String arguments, @Nullable Location<World> targetPosition) {
+            this.source = source;
+            this.arguments = arguments;
+            this.targetPosition = targetPosition;
+            this.hashCode = Objects.hash(source, arguments, targetPosition);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CompletionKey other = (CompletionKey) o;
+            return this.source.equals(other.source)
+                    && this.arguments.equals(other.arguments)
+                    && Objects.equals(this.targetPosition, other.targetPosition);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
 }
@@ -29,6 +29,7 @@
 import static org.spongepowered.api.command.args.GenericArguments.dimension;
 import static org.spongepowered.api.command.args.GenericArguments.firstParsing;
 import static org.spongepowered.api.command.args.GenericArguments.flags;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
 import static org.spongepowered.api.command.args.GenericArguments.literal;
 import static org.spongepowered.api.command.args.GenericArguments.optional;
 import static org.spongepowered.api.command.args.GenericArguments.optionalWeak;
@@ -86,18 +87,24 @@
 import org.spongepowered.common.config.type.GlobalConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.tracking.NeighborNotificationQueue;
+import org.spongepowered.common.event.tracking.PhaseSampler;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
+import org.spongepowered.common.interfaces.world.IMixinWorldEntitySpawner;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.WorldManager;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -136,6 +143,7 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeEntityInfoCommand(), "entityInfo");
         nonFlagChildren.register(createSpongeAuditCommand(), "audit");
         nonFlagChildren.register(createSpongeHeapCommand(), "heap");
+        nonFlagChildren.register(createSpongeSamplerCommand(), "sampler");
         nonFlagChildren.register(createSpongePluginsCommand(), "plugins");
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
@@ -153,6 +161,7 @@ public static CommandSpec createSpongeCommand() {
                         INDENT, title("chunks"), LONG_INDENT, "Prints chunk data for a specific dimension or world(s)\n",
                         INDENT, title("conf"), LONG_INDENT, "Configure sponge settings\n",
                         INDENT, title("heap"), LONG_INDENT, "Dump live JVM heap\n",
+                        INDENT, title("sampler"), LONG_INDENT, "Sample the server thread by tracked phase\n",
                         INDENT, title("reload"), LONG_INDENT, "Reloads a global, dimension, or world config\n",
                         INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\n",
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
@@ -286,13 +295,28 @@ protected Text value(Object text) {
                     }
 
                     protected Text getChunksInfo(WorldServer worldserver) {
+                        final IMixinWorldEntitySpawner spawner = ((IMixinWorldServer) worldserver).getEntitySpawner();
+                        final NeighborNotificationQueue notificationQueue = ((IMixinWorldServer) worldserver).getNeighborNotificationQueue();
+                        long prefetchCount = 0;
+                        long prefetchHits = 0;
+                        if (((World) worldserver).getWorldStorage() instanceof IMixinAnvilChunkLoader) {
+                            final IMixinAnvilChunkLoader chunkLoader = (IMixinAnvilChunkLoader) ((World) worldserver).getWorldStorage();
+                            prefetchCount = chunkLoader.getPrefetchCount();
+                            prefetchHits = chunkLoader.getPrefetchHits();
+                        }
                         return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
                                 key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                                 key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
+                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                                key("Spawn attempts: "), value(spawner.getSpawnAttempts()), NEWLINE_TEXT,
+                                key("Successful spawns: "), value(spawner.getSuccessfulSpawns()), NEWLINE_TEXT,
+                                key("Prefetched chunks: "), value(prefetchCount), NEWLINE_TEXT,
+                                key("Prefetched chunks used: "), value(prefetchHits), NEWLINE_TEXT,
+                                key("Queued neighbor notifications: "), value(notificationQueue.getProcessedCount()), NEWLINE_TEXT,
+                                key("Coalesced neighbor notifications: "), value(notificationQueue.getCoalescedCount()), NEWLINE_TEXT
                         );
                     }
                 })
@@ -377,6 +401,48 @@ private static CommandSpec createSpongeHeapCommand() {
     private static final Text IMPLEMENTATION_NAME = Text.of(TextColors.YELLOW, TextStyles.BOLD,
             Sponge.getPlatform().getContainer(IMPLEMENTATION).getName());
 
+    private static CommandSpec createSpongeSamplerCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Samples the server thread, grouped by the tracked phase and plugin"))
+                .permission("sponge.command.sampler")
+                .child(CommandSpec.builder()
+                        .arguments(optional(integer(Text.of("interval"))), optional(integer(Text.of("max stacks"))))
+                        .executor((src, args) -> {
+                            final int interval = args.<Integer>getOne("interval").orElse(PhaseSampler.DEFAULT_INTERVAL_MILLIS);
+                            final int maxStacks = args.<Integer>getOne("max stacks").orElse(PhaseSampler.DEFAULT_MAX_STACKS);
+                            if (interval <= 0 || maxStacks <= 0) {
+                                throw new CommandException(Text.of("The interval and max stacks must be positive"));
+                            }
+                            if (!PhaseSampler.start(interval, maxStacks)) {
+                                src.sendMessage(Text.of(TextColors.RED, "The sampler is already running"));
+                                return CommandResult.empty();
+                            }
+                            src.sendMessage(Text.of("Sampling the server thread every ", interval, "ms"));
+                            return CommandResult.success();
+                        })
+                        .build(), "start")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            final Path file = SpongeImpl.getGameDir().resolve("dumps").resolve(
+                                    "samples-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".txt");
+                            final long samples;
+                            try {
+                                samples = PhaseSampler.stop(file);
+                            } catch (IOException e) {
+                                SpongeImpl.getLogger().error("Could not write samples to " + file, e);
+                                throw new CommandException(Text.of("Could not write samples, check your logs for more information"), e);
+                            }
+                            if (samples < 0) {
+                                src.sendMessage(Text.of(TextColors.RED, "The sampler is not running"));
+                                return CommandResult.empty();
+                            }
+                            src.sendMessage(Text.of("Wrote ", samples, " samples in collapsed stack format to: ", file.toAbsolutePath()));
+                            return CommandResult.success();
+                        })
+                        .build(), "stop")
+                .build();
+    }
+
     private static CommandSpec createSpongeVersionCommand() {
         return CommandSpec.builder()
                 .description(Text.of("Display Sponge's current version"))
@@ -608,6 +674,16 @@ private static CommandCallable createSpongeTimingsCommand() {
                             return CommandResult.success();
                         })
                         .build(), "report", "paste")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.exportReport(src);
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
                 .child(CommandSpec.builder()
                         .executor((src, args) -> {
                             Timings.setTimingsEnabled(true);
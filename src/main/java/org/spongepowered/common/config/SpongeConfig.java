@@ -29,6 +29,7 @@
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.commented.SimpleCommentedConfigurationNode;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
+import ninja.leaping.configurate.loader.AtomicFiles;
 import ninja.leaping.configurate.objectmapping.ObjectMapper;
 import ninja.leaping.configurate.objectmapping.ObjectMappingException;
 import ninja.leaping.configurate.objectmapping.serialize.TypeSerializers;
@@ -41,10 +42,14 @@
 import org.spongepowered.common.util.IpSet;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.annotation.Nullable;
 
 public class SpongeConfig<T extends ConfigBase> {
 
@@ -75,6 +80,13 @@ public enum Type {
     private ObjectMapper<T>.BoundInstance configMapper;
     private T configBase;
     private String modId;
+    // The sequence number of the last snapshot, guarded by this config
+    private long sequence;
+    // Snapshots up to this sequence number are never written, guarded by the write lock
+    private long writtenSequence;
+    private final Object writeLock = new Object();
+    // Guarded by the pending set of the SpongeConfigSaveManager
+    @Nullable ScheduledFuture<?> scheduledSave;
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public SpongeConfig(Type type, Path path, String modId) {
@@ -88,11 +100,15 @@ public SpongeConfig(Type type, Path path, String modId) {
                 Files.createFile(path);
             }
 
-            this.loader = HoconConfigurationLoader.builder().setPath(path).build();
+            this.loader = HoconConfigurationLoader.builder()
+                    .setSource(() -> Files.newBufferedReader(path, StandardCharsets.UTF_8))
+                    // Write to a temporary file first, so a crash mid write can't leave a truncated config
+                    .setSink(AtomicFiles.createAtomicWriterFactory(path, StandardCharsets.UTF_8))
+                    .build();
             this.configMapper = (ObjectMapper.BoundInstance) ObjectMapper.forClass(this.type.type).bindToNew();
 
             reload();
-            save();
+            saveNow();
         } catch (Exception e) {
             SpongeImpl.getLogger().error("Failed to initialize configuration", e);
         }
@@ -102,16 +118,65 @@ public T getConfig() {
         return this.configBase;
     }
 
+    /**
+     * Schedules this config to be written to disk by the background config
+     * writer, without blocking the calling thread.
+     */
     public void save() {
+        SpongeConfigSaveManager.getInstance().save(this);
+    }
+
+    /**
+     * Writes this config to disk on the calling thread.
+     */
+    public void saveNow() {
+        final Snapshot snapshot = snapshot();
+        if (snapshot != null) {
+            write(snapshot);
+        }
+    }
+
+    /**
+     * Serializes the current settings into a copy of the config tree which
+     * is detached from this config, so it can be written by another thread
+     * while the settings keep being modified.
+     *
+     * @return The detached copy, or null if the settings failed to serialize
+     */
+    @Nullable
+    synchronized Snapshot snapshot() {
         try {
             this.configMapper.serialize(this.root.getNode(this.modId));
-            this.loader.save(this.root);
-        } catch (IOException | ObjectMappingException e) {
+        } catch (ObjectMappingException e) {
             SpongeImpl.getLogger().error("Failed to save configuration", e);
+            return null;
+        }
+        final CommentedConfigurationNode node = SimpleCommentedConfigurationNode.root(this.root.getOptions());
+        node.mergeValuesFrom(this.root);
+        return new Snapshot(this, node, ++this.sequence);
+    }
+
+    /**
+     * Writes a snapshot to disk, unless a newer snapshot was already written
+     * or the config was reloaded since it was taken.
+     *
+     * @param snapshot The snapshot to write
+     */
+    void write(Snapshot snapshot) {
+        synchronized (this.writeLock) {
+            if (snapshot.sequence <= this.writtenSequence) {
+                return;
+            }
+            try {
+                this.loader.save(snapshot.node);
+                this.writtenSequence = snapshot.sequence;
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to save configuration", e);
+            }
         }
     }
 
-    public void reload() {
+    public synchronized void reload() {
         try {
             this.root = this.loader.load(ConfigurationOptions.defaults()
                     .setSerializers(
@@ -121,14 +186,22 @@ public void reload() {
         } catch (Exception e) {
             SpongeImpl.getLogger().error("Failed to load configuration", e);
         }
+        // Snapshots taken before the reload must not overwrite the reloaded file
+        synchronized (this.writeLock) {
+            this.writtenSequence = this.sequence;
+        }
+        SpongeConfigSaveManager.getInstance().discard(this);
     }
 
     public CompletableFuture<CommentedConfigurationNode> updateSetting(String key, Object value) {
         return Functional.asyncFailableFuture(() -> {
-            CommentedConfigurationNode upd = getSetting(key);
-            upd.setValue(value);
-            this.configBase = this.configMapper.populate(this.root.getNode(this.modId));
-            this.loader.save(this.root);
+            final CommentedConfigurationNode upd;
+            synchronized (this) {
+                upd = getSetting(key);
+                upd.setValue(value);
+                this.configBase = this.configMapper.populate(this.root.getNode(this.modId));
+            }
+            save();
             return upd;
         }, ForkJoinPool.commonPool());
     }
@@ -153,4 +226,21 @@ public Type getType() {
         return this.type;
     }
 
+    /**
+     * A copy of the settings of a config, numbered in the order they were
+     * taken.
+     */
+    static final class Snapshot {
+
+        final SpongeConfig<?> config;
+        final CommentedConfigurationNode node;
+        final long sequence;
+
+        Snapshot(SpongeConfig<?> config, CommentedConfigurationNode node, long sequence) {
+            this.config = config;
+            this.node = node;
+            this.sequence = sequence;
+        }
+    }
+
 }
@@ -0,0 +1,182 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.GlobalGeneralCategory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes {@link SpongeConfig}s to disk on a single background thread.
+ *
+ * <p>Saves are debounced: a config that is saved again before its pending
+ * write happened is only written once. If batching is enabled, every config
+ * that became dirty during the delay is flushed by the same write pass, so
+ * the configs of all worlds end up being written together.</p>
+ *
+ * <p>Once the delay passed, the settings are serialized on the server thread
+ * and the writer thread only ever sees a detached copy of the config tree.
+ * This keeps it from reading settings while they are being modified, and
+ * limits the copying to once per delay no matter how often a config is
+ * saved.</p>
+ */
+public final class SpongeConfigSaveManager {
+
+    private static final SpongeConfigSaveManager INSTANCE = new SpongeConfigSaveManager();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Config Writer").setDaemon(true).build());
+    private final Set<SpongeConfig<?>> pending = new LinkedHashSet<>();
+    @Nullable private ScheduledFuture<?> scheduledFlush;
+
+    private SpongeConfigSaveManager() {
+    }
+
+    public static SpongeConfigSaveManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedules the given config to be written by the background writer.
+     *
+     * @param config The config to save
+     */
+    void save(SpongeConfig<?> config) {
+        final GlobalGeneralCategory general = SpongeImpl.getGlobalConfig().getConfig().getGeneral();
+        final int delay = general.getConfigSaveDelay();
+        if (delay <= 0 || !Sponge.isServerAvailable()) {
+            config.saveNow();
+            return;
+        }
+        synchronized (this.pending) {
+            if (!this.pending.add(config)) {
+                // Already scheduled, the pending write will pick up this change
+                return;
+            }
+            if (!general.batchConfigSaves()) {
+                config.scheduledSave = this.executor.schedule(() -> {
+                    synchronized (this.pending) {
+                        config.scheduledSave = null;
+                    }
+                    SpongeImpl.getServer().addScheduledTask(() -> writeAsync(drain(Collections.singleton(config))));
+                }, delay, TimeUnit.MILLISECONDS);
+            } else if (this.scheduledFlush == null) {
+                this.scheduledFlush = this.executor.schedule(() -> {
+                    synchronized (this.pending) {
+                        this.scheduledFlush = null;
+                    }
+                    SpongeImpl.getServer().addScheduledTask(() -> writeAsync(drain(null)));
+                }, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Drops the pending save of the given config, used when it was reloaded
+     * from disk.
+     *
+     * @param config The config to discard the pending save of
+     */
+    void discard(SpongeConfig<?> config) {
+        synchronized (this.pending) {
+            if (this.pending.remove(config) && config.scheduledSave != null) {
+                config.scheduledSave.cancel(false);
+                config.scheduledSave = null;
+            }
+        }
+    }
+
+    private void writeAsync(List<SpongeConfig<?>> configs) {
+        if (configs.isEmpty()) {
+            return;
+        }
+        final List<SpongeConfig.Snapshot> snapshots = new ArrayList<>(configs.size());
+        for (SpongeConfig<?> config : configs) {
+            final SpongeConfig.Snapshot snapshot = config.snapshot();
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        this.executor.execute(() -> {
+            for (SpongeConfig.Snapshot snapshot : snapshots) {
+                snapshot.config.write(snapshot);
+            }
+        });
+    }
+
+    /**
+     * Removes the given configs, or every config if null, from the pending
+     * set.
+     *
+     * @param configs The configs to remove
+     * @return The removed configs which were still pending
+     */
+    private List<SpongeConfig<?>> drain(@Nullable Collection<SpongeConfig<?>> configs) {
+        synchronized (this.pending) {
+            final List<SpongeConfig<?>> drained = new ArrayList<>();
+            for (SpongeConfig<?> config : configs == null ? this.pending : configs) {
+                if (configs != null && !this.pending.contains(config)) {
+                    continue;
+                }
+                if (config.scheduledSave != null) {
+                    config.scheduledSave.cancel(false);
+                    config.scheduledSave = null;
+                }
+                drained.add(config);
+            }
+            this.pending.removeAll(drained);
+            if (configs == null && this.scheduledFlush != null) {
+                this.scheduledFlush.cancel(false);
+                this.scheduledFlush = null;
+            }
+            return drained;
+        }
+    }
+
+    /**
+     * Immediately writes all configs with a pending save on the calling
+     * thread. Used when the server stops, as the writer thread does not keep
+     * the server alive.
+     */
+    public void flush() {
+        for (SpongeConfig<?> config : drain(null)) {
+            config.saveNow();
+        }
+    }
+}
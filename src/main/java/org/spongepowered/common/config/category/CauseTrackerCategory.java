@@ -51,6 +51,21 @@ public class CauseTrackerCategory extends ConfigCategory {
                                                                  + "than what is expected.")
     boolean reportWorldTickDifferentWorlds = false;
 
+    @Setting(value = "batch-block-notifications", comment = "If true, the client and neighbor notifications of captured block changes\n"
+                                                            + "are deferred until every transaction of a phase has been applied,\n"
+                                                            + "merged per position and sent grouped by chunk. This greatly speeds up\n"
+                                                            + "large captured changes like explosions, but neighbors are notified\n"
+                                                            + "after all changes instead of after each change. If mods cause issue, disable.")
+    boolean batchBlockNotifications = false;
+
+    @Setting(value = "audit-only", comment = "If true, block changes are applied immediately instead of being captured\n"
+                                             + "while no plugin listens to a ChangeBlockEvent that could cancel them. Only the\n"
+                                             + "position and states of each change are recorded, to track the block owners\n"
+                                             + "and notifiers and to fire ChangeBlockEvent.Post once the phase completes.\n"
+                                             + "Cancelling that event has no effect. Changes are captured as usual as soon\n"
+                                             + "as a listener for any other ChangeBlockEvent is registered.")
+    boolean auditOnly = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -70,4 +85,12 @@ public boolean reportWorldTickDifferences() {
     public void setReportWorldTickDifferentWorlds(boolean reportWorldTickDifferentWorlds) {
         this.reportWorldTickDifferentWorlds = reportWorldTickDifferentWorlds;
     }
+
+    public boolean batchBlockNotifications() {
+        return this.batchBlockNotifications;
+    }
+
+    public boolean isAuditOnly() {
+        return this.auditOnly;
+    }
 }
@@ -41,6 +41,11 @@ public class CommandsCategory extends ConfigCategory {
             + "changes on the all worlds.")
     private Map<String, Boolean> multiWorldCommandPatches = new HashMap<>();
 
+    @Setting(value = "completion-cache-millis", comment = "The amount of milliseconds tab completions are cached per command source and input.\n"
+            + "Registering or removing a command clears the cache. Completions that depend on permissions or\n"
+            + "the world can be outdated for this long. Set to 0 to disable caching.")
+    private int completionCacheMillis = 0;
+
     public Map<String, String> getAliases() {
         return this.aliases;
     }
@@ -49,4 +54,8 @@ public Map<String, Boolean> getMultiWorldCommandPatches() {
         return this.multiWorldCommandPatches;
     }
 
+    public int getCompletionCacheMillis() {
+        return this.completionCacheMillis;
+    }
+
 }
@@ -33,6 +33,21 @@ public class GlobalGeneralCategory extends GeneralCategory {
     @Setting(value = "file-io-thread-sleep", comment = "Enabled sleeping between chunk saves, beware of memory issues")
     private boolean fileIOThreadSleep = false;
 
+    @Setting(value = "config-save-delay", comment = "The amount of milliseconds config changes are collected before being written to disk\n"
+            + "by a background thread. Set to 0 to write configs immediately on the thread that changed them.")
+    private int configSaveDelay = 1000;
+
+    @Setting(value = "batch-config-saves", comment = "If enabled, all configs changed within 'config-save-delay' of each other,\n"
+            + "such as the configs of every world, are written in a single flush.")
+    private boolean batchConfigSaves = true;
+
+    @Setting(value = "user-cache-max-weight", comment = "The maximum weight of the offline user cache, in KiB of compressed player data.\n"
+            + "Users without player data weigh 1. Least recently used users are evicted first.")
+    private int userCacheMaxWeight = 65536;
+
+    @Setting(value = "user-loader-threads", comment = "The amount of threads used to read offline player data for asynchronous user lookups.")
+    private int userLoaderThreads = 2;
+
     public GlobalGeneralCategory() {
         
     }
@@ -40,4 +55,20 @@ public GlobalGeneralCategory() {
     public boolean getFileIOThreadSleep() {
         return this.fileIOThreadSleep;
     }
+
+    public int getConfigSaveDelay() {
+        return this.configSaveDelay;
+    }
+
+    public boolean batchConfigSaves() {
+        return this.batchConfigSaves;
+    }
+
+    public int getUserCacheMaxWeight() {
+        return this.userCacheMaxWeight;
+    }
+
+    public int getUserLoaderThreads() {
+        return this.userLoaderThreads;
+    }
 }
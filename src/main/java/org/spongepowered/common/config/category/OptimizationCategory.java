@@ -53,6 +53,59 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates async.")
     private boolean asyncLighting = true;
 
+    @Setting(value = "block-state-transition-tables", comment = "Precomputes a transition table for every block state, so changing or reading\n"
+            + "a property of a block state is an array lookup instead of a hash lookup. Disabled by default, as some mods\n"
+            + "replace the property lookups of their own block states.")
+    private boolean blockStateTransitionTables = false;
+
+    @Setting(value = "parallel-volume-workers", comment = "Splits the work of block volume workers on large immutable volumes by sections\n"
+            + "and runs the map, merge and reduce procedures on multiple threads. Only enable this if all\n"
+            + "plugins using block volume workers use thread safe procedures.")
+    private boolean parallelVolumeWorkers = false;
+
+    @Setting(value = "parallel-terrain-generation", comment = "Allows the terrain of chunks that are about to be generated, like chunks of a pre-generation\n"
+            + "task, to be generated on worker threads. This only applies to worlds whose biome generator and\n"
+            + "generation populators are all known to be thread safe, either built in or listed in 'thread-safe-generators'.\n"
+            + "The chunks are still populated on the main thread.")
+    private ParallelTerrainGenerationCategory parallelTerrainGeneration = new ParallelTerrainGenerationCategory();
+
+    @Setting(value = "prefetch-login-data", comment = "Reads the data file of a player and the chunks around their last location on a worker\n"
+            + "thread while they are logging in, so the server doesn't have to wait for the disk when they join.")
+    private boolean prefetchLoginData = false;
+
+    @Setting(value = "predictive-chunk-loading", comment = "Reads the chunks ahead of fast moving players, like players flying with an elytra, on\n"
+            + "worker threads before they come into view. The chunks are still loaded on the main thread, but\n"
+            + "without waiting for the disk.")
+    private boolean predictiveChunkLoading = false;
+
+    @Setting(value = "hopper-transfer-caching", comment = "Hoppers remember the tile entity inventories they pull from and push into until a\n"
+            + "neighbouring block changes, and skip inventories that were empty or full last time and weren't\n"
+            + "marked dirty since. If mods change inventories without marking them dirty, disable.")
+    private boolean hopperTransferCaching = false;
+
+    @Setting(value = "neighbor-notification-queue", comment = "Queues block neighbor notifications and processes them breadth first within the phase\n"
+            + "that sent them, instead of recursively. A notification of a block that is already waiting in the\n"
+            + "queue is dropped. This changes the order of block updates within a tick, which some redstone\n"
+            + "contraptions depend on.")
+    private boolean neighborNotificationQueue = false;
+
+    @Setting(value = "parallel-tile-entity-ticking", comment = "Ticks the listed tile entity types on worker threads after the other tile entities of a\n"
+            + "world. The tile entities are split by areas of 4x4 chunks, and areas next to each other are never\n"
+            + "ticked at the same time. Block changes, entity spawns, neighbor notifications and comparator\n"
+            + "updates they make are applied on the main thread afterwards, in order. Unloaded chunks are never loaded\n"
+            + "for them, and posting an event with listeners fails. Any other change to the world from these tile\n"
+            + "entities is unsafe, so only list types that are known to be self contained.")
+    private ParallelTileEntityTickingCategory parallelTileEntityTicking = new ParallelTileEntityTickingCategory();
+
+    @Setting(value = "region-file-cache-size", comment = "The amount of region files that are kept open at once. When more region files are\n"
+            + "needed, the least recently used one is closed. Every open region file holds a file handle.")
+    private int regionFileCacheSize = 256;
+
+    @Setting(value = "mmap-region-files", comment = "Reads chunks from memory mapped region files instead of seeking and reading the file\n"
+            + "for every chunk. The mappings are released when their region file is closed, on some systems\n"
+            + "a mapped region file can't be deleted until then.")
+    private boolean mmapRegionFiles = false;
+
     public StructureSaveCategory getStructureSaveCategory() {
         return this.structureSaveCategory;
     }
@@ -72,4 +125,44 @@ public boolean useCacheTameableOwners() {
     public boolean useAsyncLighting() {
         return this.asyncLighting;
     }
+
+    public boolean useBlockStateTransitionTables() {
+        return this.blockStateTransitionTables;
+    }
+
+    public boolean useParallelVolumeWorkers() {
+        return this.parallelVolumeWorkers;
+    }
+
+    public ParallelTerrainGenerationCategory getParallelTerrainGeneration() {
+        return this.parallelTerrainGeneration;
+    }
+
+    public boolean usePrefetchLoginData() {
+        return this.prefetchLoginData;
+    }
+
+    public boolean usePredictiveChunkLoading() {
+        return this.predictiveChunkLoading;
+    }
+
+    public int getRegionFileCacheSize() {
+        return this.regionFileCacheSize;
+    }
+
+    public boolean useMmapRegionFiles() {
+        return this.mmapRegionFiles;
+    }
+
+    public boolean useHopperTransferCaching() {
+        return this.hopperTransferCaching;
+    }
+
+    public boolean useNeighborNotificationQueue() {
+        return this.neighborNotificationQueue;
+    }
+
+    public ParallelTileEntityTickingCategory getParallelTileEntityTicking() {
+        return this.parallelTileEntityTicking;
+    }
 }
@@ -46,6 +46,10 @@ public class SpawnerCategory extends ConfigCategory {
     private int tickRateAquatic = 400;
     @Setting(value = "tick-rate-monster", comment = "The monster spawning tick rate. Default: 1")
     private int tickRateMonster = 1;
+    @Setting(value = "per-player-limits", comment = "If enabled, the spawn limits apply to the mobs around each player instead of being shared by the whole world.\n"
+            + "A player surrounded by mobs no longer uses up the limit of players elsewhere, and chunks whose nearby players\n"
+            + "are all at their limit are skipped. Default: false")
+    private boolean perPlayerLimits = false;
 
     public SpawnerCategory() {
         
@@ -82,4 +86,8 @@ public int getAquaticTickRate() {
     public int getMonsterTickRate() {
         return this.tickRateMonster;
     }
+
+    public boolean usePerPlayerLimits() {
+        return this.perPlayerLimits;
+    }
 }
@@ -51,6 +51,17 @@ public class TimingsCategory extends ConfigCategory {
     @Setting("history-length")
     private int historyLength = 3600;
 
+    @Setting(value = "export-to-file", comment = "If enabled, timings reports are written to a gzip compressed file in 'export-directory'\n"
+            + "instead of being uploaded. The file contains the same data as an uploaded report.")
+    private boolean exportToFile = false;
+
+    @Setting(value = "export-directory", comment = "The directory, relative to the server root, that timings reports are written to.")
+    private String exportDirectory = "timings";
+
+    @Setting(value = "chunk-stats-per-tick", comment = "The amount of loaded chunks visited per tick to gather entity and tile entity counts\n"
+            + "for timings reports. Set to 0 to visit all loaded chunks at once when a history frame is captured.")
+    private int chunkStatsPerTick = 64;
+
     public boolean isVerbose() {
         return this.verbose;
     }
@@ -83,4 +94,20 @@ public void setHistoryLength(int historyLength) {
         this.historyLength = historyLength;
     }
 
-}
\ No newline at end of file
+    public boolean isExportToFile() {
+        return this.exportToFile;
+    }
+
+    public void setExportToFile(boolean exportToFile) {
+        this.exportToFile = exportToFile;
+    }
+
+    public String getExportDirectory() {
+        return this.exportDirectory;
+    }
+
+    public int getChunkStatsPerTick() {
+        return this.chunkStatsPerTick;
+    }
+
+}
@@ -50,9 +50,13 @@
 import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.schematic.BimapPalette;
 import org.spongepowered.common.world.schematic.GlobalPalette;
+import org.spongepowered.common.world.schematic.SchematicBlockData;
 import org.spongepowered.common.world.schematic.SpongeSchematic;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -134,34 +138,7 @@ public Schematic translate(DataView view) throws InvalidDataException {
                 new ArrayMutableBlockBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]), new Vector3i(width, height, length));
 
         byte[] blockdata = (byte[]) view.get(DataQueries.Schematic.BLOCK_DATA).get();
-        int index = 0;
-        int i = 0;
-        int value = 0;
-        int varint_length = 0;
-        while (i < blockdata.length) {
-            value = 0;
-            varint_length = 0;
-
-            while (true) {
-                value |= (blockdata[i] & 127) << (varint_length++ * 7);
-                if (varint_length > 5) {
-                    throw new RuntimeException("VarInt too big (probably corrupted data)");
-                }
-                if ((blockdata[i] & 128) != 128) {
-                    i++;
-                    break;
-                }
-                i++;
-            }
-            // index = (y * length + z) * width + x
-            int y = index / (width * length);
-            int z = (index % (width * length)) / width;
-            int x = (index % (width * length)) % width;
-            BlockState state = palette.get(value).get();
-            buffer.setBlock(x - offset[0], y - offset[1], z - offset[2], state, SpongeImpl.getImplementationCause());
-
-            index++;
-        }
+        SchematicBlockData.read(ByteBuffer.wrap(blockdata), palette, buffer, SpongeImpl.getImplementationCause());
         Map<Vector3i, TileEntityArchetype> tiles = Maps.newHashMap();
         List<DataView> tiledata = view.getViewList(DataQueries.Schematic.TILEENTITY_DATA).orElse(null);
         if (tiledata != null) {
@@ -217,27 +194,16 @@ public DataView addTo(Schematic schematic, DataView data) {
         data.set(DataQueries.Schematic.OFFSET, offset);
 
         BlockPalette palette = schematic.getPalette();
-        ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length);
-
-        for (int y = 0; y < height; y++) {
-            int y0 = yMin + y;
-            for (int z = 0; z < length; z++) {
-                int z0 = zMin + z;
-                for (int x = 0; x < width; x++) {
-                    int x0 = xMin + x;
-                    BlockState state = schematic.getBlock(x0, y0, z0);
-                    int id = palette.getOrAssign(state);
-
-                    while ((id & -128) != 0) {
-                        buffer.write(id & 127 | 128);
-                        id >>>= 7;
-                    }
-                    buffer.write(id);
-                }
-            }
+        // Most palettes need a single byte per block
+        final ByteArrayOutputStream blockData = new ByteArrayOutputStream((int) Math.min((long) width * height * length, Integer.MAX_VALUE - 8));
+        try {
+            SchematicBlockData.write(schematic, palette, Channels.newChannel(blockData));
+        } catch (IOException e) {
+            // Never thrown by a byte array stream
+            throw new IllegalStateException(e);
         }
 
-        data.set(DataQueries.Schematic.BLOCK_DATA, buffer.toByteArray());
+        data.set(DataQueries.Schematic.BLOCK_DATA, blockData.toByteArray());
 
         if (palette.getType() == BlockPaletteTypes.LOCAL) {
             DataQuery paletteQuery = DataQueries.Schematic.PALETTE;
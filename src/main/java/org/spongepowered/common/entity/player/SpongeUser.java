@@ -55,6 +55,7 @@
 import org.spongepowered.common.data.type.SpongeEquipmentType;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.interfaces.IMixinSaveHandler;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.world.WorldManager;
 
@@ -93,11 +94,26 @@ public class SpongeUser implements ArmorEquipable, Tamer, DataSerializable, Carr
 
     private SpongeUserInventory inventory; // lazy load when accessing inventory
     private NBTTagCompound nbt;
+    private int dataSize;
 
     public SpongeUser(GameProfile profile) {
         this.profile = profile;
     }
 
+    /**
+     * Gets the size, in bytes, of the compressed player data this user was
+     * read from, or 0 if it was not read from a data file.
+     *
+     * @return The data size
+     */
+    public int getDataSize() {
+        return this.dataSize;
+    }
+
+    public void setDataSize(int dataSize) {
+        this.dataSize = dataSize;
+    }
+
     private void reset() {
         this.spawnLocations.clear();
     }
@@ -307,6 +323,7 @@ public void save() {
         writeToNbt(tag);
         try {
             CompressedStreamTools.writeCompressed(tag, new FileOutputStream(dataFile));
+            ((IMixinSaveHandler) saveHandler).discardPrefetchedPlayerData(getUniqueId());
             dirtyUsers.remove(this);
         } catch (IOException e) {
             SpongeImpl.getLogger().warn("Failed to save user file [{}]!", dataFile, e);
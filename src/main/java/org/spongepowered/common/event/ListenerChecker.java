@@ -29,15 +29,20 @@
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.reflect.TypeToken;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 public class ListenerChecker {
@@ -64,6 +69,13 @@ public Set<Class<?>> load(Class<?> key) throws Exception {
         }
     });
 
+    // The number of registered listeners for each listened event type
+    private final Object2IntOpenHashMap<Class<?>> listenedTypes = new Object2IntOpenHashMap<>();
+    // Every event type that was queried through hasListeners, the index is the bit of the type
+    private final List<Class<?>> queriedTypes = new ArrayList<>();
+    private final Map<Class<?>, Integer> queriedTypeIds = new ConcurrentHashMap<>();
+    private volatile long[] listenerBits = new long[1];
+
     private static String getName(Class<?> clazz) {
         // Properly account for inner classes. Class#getName uses a $
         // to separate inner classes, so the last '.' is the end of the package name
@@ -92,6 +104,12 @@ public <T> void registerListenerFor(Class<T> eventClass) {
         // We don't need to walk down the tree, because a more-specific flag can never be turned
         // from false to true by a less-specific event (and therefore flag) being registered.
         this.updateFields(types, c -> true);
+
+        synchronized (this.queriedTypes) {
+            if (this.listenedTypes.addTo(eventClass, 1) == 0) {
+                this.updateListenerBits();
+            }
+        }
     }
 
     public <T> void unregisterListenerFor(Class<T> eventClass) {
@@ -111,6 +129,78 @@ public <T> void unregisterListenerFor(Class<T> eventClass) {
         // If the set is empty for a class (there are no direct listeners or subclass listeners)
         // we set it to false (opposite of isEmpty/true)
         this.updateFields(types, c -> !this.subtypeMappings.getUnchecked(c).isEmpty());
+
+        synchronized (this.queriedTypes) {
+            if (this.listenedTypes.containsKey(eventClass) && this.listenedTypes.addTo(eventClass, -1) == 1) {
+                this.listenedTypes.removeInt(eventClass);
+                this.updateListenerBits();
+            }
+        }
+    }
+
+    /**
+     * Gets whether an event of the given type could reach any registered
+     * listener. Unlike the flags, this covers every event type: the type is
+     * assigned a bit the first time it is queried, which is kept up to date
+     * on every listener registration afterwards.
+     *
+     * <p>An event type has listeners if a listener is registered for the type
+     * itself, one of its supertypes or one of its subtypes.</p>
+     *
+     * @param eventClass The event type
+     * @return True if an event of the type could have listeners
+     */
+    public boolean hasListeners(Class<?> eventClass) {
+        if (ALL_TRUE) {
+            return true;
+        }
+        Integer id = this.queriedTypeIds.get(eventClass);
+        if (id == null) {
+            id = this.assignBit(eventClass);
+        }
+        final long[] bits = this.listenerBits;
+        return (bits[id >>> 6] & (1L << id)) != 0;
+    }
+
+    private int assignBit(Class<?> eventClass) {
+        synchronized (this.queriedTypes) {
+            final Integer existing = this.queriedTypeIds.get(eventClass);
+            if (existing != null) {
+                return existing;
+            }
+            final int id = this.queriedTypes.size();
+            this.queriedTypes.add(eventClass);
+            long[] bits = this.listenerBits;
+            if ((id >>> 6) >= bits.length) {
+                bits = Arrays.copyOf(bits, bits.length * 2);
+            }
+            if (this.computeHasListeners(eventClass)) {
+                bits[id >>> 6] |= 1L << id;
+            }
+            // Publish the bits before the id, so a reader finding the id always finds its bit
+            this.listenerBits = bits;
+            this.queriedTypeIds.put(eventClass, id);
+            return id;
+        }
+    }
+
+    private void updateListenerBits() {
+        final long[] bits = new long[this.listenerBits.length];
+        for (int id = 0; id < this.queriedTypes.size(); id++) {
+            if (this.computeHasListeners(this.queriedTypes.get(id))) {
+                bits[id >>> 6] |= 1L << id;
+            }
+        }
+        this.listenerBits = bits;
+    }
+
+    private boolean computeHasListeners(Class<?> eventClass) {
+        for (Class<?> listenedType : this.listenedTypes.keySet()) {
+            if (listenedType.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(listenedType)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public ListenerChecker(Class<?> clazz) {
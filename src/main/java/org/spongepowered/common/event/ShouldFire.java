@@ -24,6 +24,10 @@
  */
 package org.spongepowered.common.event;
 
+import org.spongepowered.api.event.Event;
+
+import javax.annotation.Nullable;
+
 public class ShouldFire {
 
     // Format is event class name with underscores
@@ -60,4 +64,20 @@ public class ShouldFire {
     public static boolean DEFUSE_EXPLOSIVE_EVENT_POST = false;
 
     public static boolean TICK_BLOCK_EVENT = false;
+
+    // Set by the event manager, tracks every event type instead of only the ones with a flag
+    @Nullable static ListenerChecker checker;
+
+    /**
+     * Gets whether an event of the given type could have any listener. Event
+     * types without a flag above can use this before constructing the event
+     * and its {@link org.spongepowered.api.event.cause.Cause}.
+     *
+     * @param eventClass The event type
+     * @return True if an event of the type could have listeners
+     */
+    public static boolean hasListeners(Class<? extends Event> eventClass) {
+        final ListenerChecker checker = ShouldFire.checker;
+        return checker == null || checker.hasListeners(eventClass);
+    }
 }
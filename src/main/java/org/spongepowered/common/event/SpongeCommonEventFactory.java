@@ -153,6 +153,9 @@ public class SpongeCommonEventFactory {
     public static WeakReference<EntityPlayerMP> lastAnimationPlayer;
 
     public static boolean callPlayerChangeInventoryPickupEvent(EntityPlayer player, EntityItem itemToPickup, int pickupDelay, UUID creator) {
+        if (!ShouldFire.hasListeners(ChangeInventoryEvent.Pickup.class)) {
+            return true;
+        }
         ItemStack itemStack = itemToPickup.getItem();
         int slotId = ((IMixinInventoryPlayer) player.inventory).getFirstAvailableSlot(itemStack);
         Slot slot = null;
@@ -240,6 +243,9 @@ public static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer wor
     }
 
     public static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer worldIn, ImmutableList<Location<World>> locations, NamedCause namedWorldCause, Object source) {
+        if (!ShouldFire.hasListeners(ChangeBlockEvent.Pre.class)) {
+            return getDummyBlockPreEvent(worldIn);
+        }
         final CauseTracker causeTracker = CauseTracker.getInstance();
         final PhaseData data = causeTracker.getCurrentPhaseData();
         final IPhaseState phaseState = data.state;
@@ -247,10 +253,7 @@ public static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer wor
             source = data.context.getSource(LocatableBlock.class).orElse(null);
             if (source == null) {
                 // safety measure, return a dummy event
-                if (DUMMY_BLOCK_PRE_EVENT == null) {
-                    DUMMY_BLOCK_PRE_EVENT = SpongeEventFactory.createChangeBlockEventPre(Cause.source(worldIn).build(), ImmutableList.of());
-                }
-                return DUMMY_BLOCK_PRE_EVENT;
+                return getDummyBlockPreEvent(worldIn);
             }
         }
 
@@ -293,6 +296,13 @@ public static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer wor
         return event;
     }
 
+    private static ChangeBlockEvent.Pre getDummyBlockPreEvent(IMixinWorldServer worldIn) {
+        if (DUMMY_BLOCK_PRE_EVENT == null) {
+            DUMMY_BLOCK_PRE_EVENT = SpongeEventFactory.createChangeBlockEventPre(Cause.source(worldIn).build(), ImmutableList.of());
+        }
+        return DUMMY_BLOCK_PRE_EVENT;
+    }
+
     public static ChangeBlockEvent.Modify callChangeBlockEventModifyLiquidMix(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, @Nullable Object source) {
         final CauseTracker causeTracker = CauseTracker.getInstance();
         final PhaseData data = causeTracker.getCurrentPhaseData();
@@ -365,6 +375,9 @@ public static ChangeBlockEvent.Break callChangeBlockEventModifyLiquidBreak(net.m
      * @return if the event was cancelled
      */
     public static boolean handlePistonEvent(IMixinWorldServer world, WorldServer.ServerBlockEventList list, Object obj, BlockPos pos, Block blockIn, int eventId, int eventParam) {
+        if (!ShouldFire.hasListeners(ChangeBlockEvent.Pre.class)) {
+            return false;
+        }
         boolean extending = (eventId == 0);
         final IBlockState blockstate = ((net.minecraft.world.World) world).getBlockState(pos);
         EnumFacing direction = blockstate.getValue(BlockDirectional.FACING);
@@ -411,6 +424,9 @@ public static NotifyNeighborBlockEvent callNotifyNeighborEvent(World world, Bloc
         if (peek.state.getPhase().isWorldGeneration(peek.state) || peek.state == State.RESTORING_BLOCKS) {
             return null;
         }
+        if (!ShouldFire.hasListeners(NotifyNeighborBlockEvent.class)) {
+            return null;
+        }
 
         User user = context.first(User.class).orElse(null);
         Object rootCause = context.first(Object.class).orElse(null);
@@ -591,21 +607,24 @@ public static boolean handleCollideBlockEvent(Block block, net.minecraft.world.W
         }
 
         final CauseTracker causeTracker = CauseTracker.getInstance();
-        final Cause.Builder builder = Cause.source(entity);
-        builder.named(NamedCause.of(NamedCause.PHYSICAL, entity));
-
-        if (!(entity instanceof EntityPlayer)) {
-            IMixinEntity spongeEntity = (IMixinEntity) entity;
-            Optional<User> user = spongeEntity.getCreatorUser();
-            if (user.isPresent()) {
-                builder.named(NamedCause.owner(user.get()));
+        boolean cancelled = false;
+        if (ShouldFire.hasListeners(CollideBlockEvent.class)) {
+            final Cause.Builder builder = Cause.source(entity);
+            builder.named(NamedCause.of(NamedCause.PHYSICAL, entity));
+
+            if (!(entity instanceof EntityPlayer)) {
+                IMixinEntity spongeEntity = (IMixinEntity) entity;
+                Optional<User> user = spongeEntity.getCreatorUser();
+                if (user.isPresent()) {
+                    builder.named(NamedCause.owner(user.get()));
+                }
             }
-        }
 
-        // TODO: Add target side support
-        CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(builder.build(), (BlockState) state,
-                new Location<>((World) world, VecHelper.toVector3d(pos)), direction);
-        boolean cancelled = SpongeImpl.postEvent(event);
+            // TODO: Add target side support
+            CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(builder.build(), (BlockState) state,
+                    new Location<>((World) world, VecHelper.toVector3d(pos)), direction);
+            cancelled = SpongeImpl.postEvent(event);
+        }
         if (!cancelled) {
             IMixinEntity spongeEntity = (IMixinEntity) entity;
             if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
@@ -642,22 +661,25 @@ public static boolean handleCollideImpactEvent(net.minecraft.entity.Entity proje
                 return false;
             }
 
-            BlockSnapshot targetBlock = ((World) projectile.world).createSnapshot(VecHelper.toVector3i(movingObjectPosition.getBlockPos()));
-            Direction side = Direction.NONE;
-            if (movingObjectPosition.sideHit != null) {
-                side = DirectionFacingProvider.getInstance().getKey(movingObjectPosition.sideHit).get();
-            }
+            if (ShouldFire.hasListeners(CollideBlockEvent.Impact.class)) {
+                BlockSnapshot targetBlock = ((World) projectile.world).createSnapshot(VecHelper.toVector3i(movingObjectPosition.getBlockPos()));
+                Direction side = Direction.NONE;
+                if (movingObjectPosition.sideHit != null) {
+                    side = DirectionFacingProvider.getInstance().getKey(movingObjectPosition.sideHit).get();
+                }
 
-            CollideBlockEvent.Impact event = SpongeEventFactory.createCollideBlockEventImpact(builder.build(), impactPoint, targetBlock.getState(),
-                    targetBlock.getLocation().get(), side);
-            cancelled = SpongeImpl.postEvent(event);
+                CollideBlockEvent.Impact event = SpongeEventFactory.createCollideBlockEventImpact(builder.build(), impactPoint, targetBlock.getState(),
+                        targetBlock.getLocation().get(), side);
+                cancelled = SpongeImpl.postEvent(event);
+            }
             // Track impact block if event is not cancelled
             if (!cancelled && owner.isPresent()) {
                 BlockPos targetPos = VecHelper.toBlockPos(impactPoint.getBlockPosition());
                 IMixinChunk spongeChunk = (IMixinChunk) projectile.world.getChunkFromBlockCoords(targetPos);
-                spongeChunk.addTrackedBlockPosition((Block) targetBlock.getState().getType(), targetPos, owner.get(), PlayerTracker.Type.NOTIFIER);
+                spongeChunk.addTrackedBlockPosition(projectile.world.getBlockState(blockPos).getBlock(), targetPos, owner.get(),
+                        PlayerTracker.Type.NOTIFIER);
             }
-        } else if (movingObjectPosition.entityHit != null) { // entity
+        } else if (movingObjectPosition.entityHit != null && ShouldFire.hasListeners(CollideEntityEvent.Impact.class)) { // entity
             ArrayList<Entity> entityList = new ArrayList<>();
             entityList.add((Entity) movingObjectPosition.entityHit);
             CollideEntityEvent.Impact event = SpongeEventFactory.createCollideEntityEventImpact(builder.build(), entityList, impactPoint);
@@ -47,6 +47,7 @@
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.ParallelTileEntityTicker;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -92,6 +93,7 @@ public class SpongeEventManager implements EventManager {
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
+        ShouldFire.checker = this.checker;
 
         // Caffeine offers no control over the concurrency level of the
         // ConcurrentHashMap which backs the cache. By default this concurrency
@@ -339,6 +341,11 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
 
     @SuppressWarnings("unchecked")
     protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
+        if (!handlers.isEmpty() && ParallelTileEntityTicker.isDeferringChanges()) {
+            // Listeners run on the main thread, so the event is posted with the other changes of the tile entity
+            ParallelTileEntityTicker.deferEvent(() -> post(event, handlers));
+            return false;
+        }
         for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
             CauseTracker.getInstance().getCurrentContext().activeContainer(handler.getPlugin());
             try {
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.Transaction;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.util.VecHelper;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A bounded buffer of the block changes applied during a phase when the
+ * cause tracker only audits block changes instead of capturing them.
+ *
+ * <p>Each change is stored as its packed position and the state ids of the
+ * original and the new state. The arrays are only allocated once a change is
+ * recorded, and grow up to {@link #CAPACITY} changes. Once the buffer is full,
+ * the recorded changes are processed right away to make room for more.</p>
+ *
+ * <p>Processing the changes marks the owner and notifier of the phase on the
+ * changed positions, and posts a {@link
+ * org.spongepowered.api.event.block.ChangeBlockEvent.Post} built from the
+ * records if it has listeners. The changes were already applied, so
+ * cancelling the event or invalidating its transactions has no effect.</p>
+ */
+final class BlockChangeRecorder {
+
+    static final int CAPACITY = 256;
+    private static final int INITIAL_CAPACITY = 16;
+
+    @Nullable private WorldServer[] worlds;
+    @Nullable private long[] positions;
+    @Nullable private int[] originalStates;
+    @Nullable private int[] newStates;
+    private int size;
+
+    void record(PhaseContext context, WorldServer world, BlockPos pos, IBlockState originalState, IBlockState newState) {
+        if (this.worlds == null) {
+            this.worlds = new WorldServer[INITIAL_CAPACITY];
+            this.positions = new long[INITIAL_CAPACITY];
+            this.originalStates = new int[INITIAL_CAPACITY];
+            this.newStates = new int[INITIAL_CAPACITY];
+        } else if (this.size == this.worlds.length) {
+            if (this.size == CAPACITY) {
+                process(context);
+            } else {
+                final int length = Math.min(CAPACITY, this.size * 2);
+                this.worlds = Arrays.copyOf(this.worlds, length);
+                this.positions = Arrays.copyOf(this.positions, length);
+                this.originalStates = Arrays.copyOf(this.originalStates, length);
+                this.newStates = Arrays.copyOf(this.newStates, length);
+            }
+        }
+        final int index = this.size++;
+        this.worlds[index] = world;
+        this.positions[index] = pos.toLong();
+        this.originalStates[index] = Block.getStateId(originalState);
+        this.newStates[index] = Block.getStateId(newState);
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Marks the notifier of the phase as the notifier of every recorded
+     * position and the owner of the phase as the owner of every recorded
+     * non air block, posts the post change event for the recorded changes
+     * and then clears the buffer.
+     *
+     * @param context The context of the phase the changes were recorded in
+     */
+    void process(PhaseContext context) {
+        final User owner = context.getOwner().orElse(null);
+        final User notifier = context.getNotifier().orElse(owner);
+        if (notifier != null) {
+            for (int index = 0; index < this.size; index++) {
+                final BlockPos pos = BlockPos.fromLong(this.positions[index]);
+                final IBlockState newState = Block.getStateById(this.newStates[index]);
+                final IMixinChunk mixinChunk = (IMixinChunk) this.worlds[index].getChunkFromBlockCoords(pos);
+                mixinChunk.addTrackedBlockPosition(newState.getBlock(), pos, notifier, PlayerTracker.Type.NOTIFIER);
+                if (owner != null && newState.getBlock() != Blocks.AIR) {
+                    mixinChunk.addTrackedBlockPosition(newState.getBlock(), pos, owner, PlayerTracker.Type.OWNER);
+                }
+            }
+        }
+        if (ShouldFire.CHANGE_BLOCK_EVENT_POST) {
+            postEvent(context, owner, notifier);
+        }
+        clear();
+    }
+
+    private void postEvent(PhaseContext context, @Nullable User owner, @Nullable User notifier) {
+        final Optional<Object> source = context.getSource(Object.class);
+        if (!source.isPresent()) {
+            return;
+        }
+        final SpongeBlockSnapshotBuilder builder = new SpongeBlockSnapshotBuilder();
+        final ImmutableList.Builder<Transaction<BlockSnapshot>> transactions = ImmutableList.builder();
+        for (int index = 0; index < this.size; index++) {
+            final BlockPos pos = BlockPos.fromLong(this.positions[index]);
+            final BlockSnapshot original = createSnapshot(builder, this.worlds[index], pos, this.originalStates[index]);
+            final BlockSnapshot changed = createSnapshot(builder, this.worlds[index], pos, this.newStates[index]);
+            transactions.add(new Transaction<>(original, changed));
+        }
+        final Cause.Builder cause = Cause.source(source.get());
+        if (notifier != null) {
+            cause.notifier(notifier);
+        }
+        if (owner != null) {
+            cause.owner(owner);
+        }
+        SpongeImpl.postEvent(SpongeEventFactory.createChangeBlockEventPost(cause.build(), transactions.build()));
+    }
+
+    private static BlockSnapshot createSnapshot(SpongeBlockSnapshotBuilder builder, WorldServer world, BlockPos pos, int stateId) {
+        final BlockState state = (BlockState) Block.getStateById(stateId);
+        return builder.reset()
+                .blockState(state)
+                .extendedState(state)
+                .worldId(((World) world).getUniqueId())
+                .position(VecHelper.toVector3i(pos))
+                .build();
+    }
+
+    void clear() {
+        if (this.worlds != null) {
+            Arrays.fill(this.worlds, 0, this.size, null);
+        }
+        this.size = 0;
+    }
+}
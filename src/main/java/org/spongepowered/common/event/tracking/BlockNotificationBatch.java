@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Collects the client and neighbor notifications of applied block
+ * transactions so they can be performed once per position, grouped by
+ * chunk, after every transaction of a phase has been applied.
+ */
+final class BlockNotificationBatch {
+
+    // The flags that suppress an update, 4 skips the re-render and 16 the observers
+    private static final int SUPPRESSING_FLAGS = 4 | 16;
+
+    private final Long2ObjectLinkedOpenHashMap<List<Notification>> chunks = new Long2ObjectLinkedOpenHashMap<>();
+    private final Map<BlockPos, Notification> positions = new HashMap<>();
+    @Nullable private IMixinWorldServer world;
+
+    void add(IMixinWorldServer world, BlockPos pos, IBlockState originalState, IBlockState newState, int updateFlag, boolean updateNeighbors) {
+        if (this.world != null && this.world != world) {
+            // Transactions are captured per world, but don't mix positions of different worlds if it ever happens
+            flush();
+        }
+        this.world = world;
+        final Notification existing = this.positions.get(pos);
+        if (existing != null) {
+            // Keep the first original state, so the client and the neighbors see the change as a whole
+            existing.newState = newState;
+            existing.updateFlag = mergeFlags(existing.updateFlag, updateFlag);
+            existing.updateNeighbors |= updateNeighbors;
+            return;
+        }
+        final Notification notification = new Notification(pos, originalState, newState, updateFlag, updateNeighbors);
+        this.positions.put(pos, notification);
+        final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        List<Notification> chunkNotifications = this.chunks.get(chunkKey);
+        if (chunkNotifications == null) {
+            chunkNotifications = new ArrayList<>();
+            this.chunks.put(chunkKey, chunkNotifications);
+        }
+        chunkNotifications.add(notification);
+    }
+
+    /**
+     * Merges the update flags of two changes to the same position into the
+     * least restrictive flags. An update is performed if either change asks
+     * for it, and only suppressed if both changes suppress it.
+     *
+     * @param first The flags of the first change
+     * @param second The flags of the second change
+     * @return The merged flags
+     */
+    static int mergeFlags(int first, int second) {
+        return ((first | second) & ~SUPPRESSING_FLAGS) | (first & second & SUPPRESSING_FLAGS);
+    }
+
+    boolean isEmpty() {
+        return this.positions.isEmpty();
+    }
+
+    void flush() {
+        if (this.world == null || this.positions.isEmpty()) {
+            return;
+        }
+        final IMixinWorldServer mixinWorldServer = this.world;
+        final WorldServer worldServer = mixinWorldServer.asMinecraftWorld();
+        // Client updates first, all changes of a chunk end up in the same multi block change packet
+        for (List<Notification> chunkNotifications : this.chunks.values()) {
+            for (Notification notification : chunkNotifications) {
+                if ((notification.updateFlag & 2) != 0) {
+                    worldServer.notifyBlockUpdate(notification.pos, notification.originalState, notification.newState, notification.updateFlag);
+                }
+            }
+        }
+        for (List<Notification> chunkNotifications : this.chunks.values()) {
+            for (Notification notification : chunkNotifications) {
+                if (notification.updateNeighbors) {
+                    mixinWorldServer.spongeNotifyNeighborsPostBlockChange(notification.pos, notification.originalState, notification.newState,
+                        notification.updateFlag);
+                } else if ((notification.updateFlag & 16) == 0) {
+                    worldServer.updateObservingBlocksAt(notification.pos, notification.newState.getBlock());
+                }
+            }
+        }
+        this.chunks.clear();
+        this.positions.clear();
+        this.world = null;
+    }
+
+    private static final class Notification {
+
+        final BlockPos pos;
+        final IBlockState originalState;
+        IBlockState newState;
+        int updateFlag;
+        boolean updateNeighbors;
+
+        Notification(BlockPos pos, IBlockState originalState, IBlockState newState, int updateFlag, boolean updateNeighbors) {
+            this.pos = pos;
+            this.originalState = originalState;
+            this.newState = newState;
+            this.updateFlag = updateFlag;
+            this.updateNeighbors = updateNeighbors;
+        }
+    }
+}
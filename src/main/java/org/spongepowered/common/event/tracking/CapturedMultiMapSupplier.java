@@ -52,6 +52,15 @@ public ListMultimap<K, V> get() {
         return this.captured;
     }
 
+    /**
+     * Drops the captured objects, so the supplier can be reused by a pooled
+     * {@link PhaseContext}. A new backing collection is only allocated once
+     * something is captured again.
+     */
+    final void reset() {
+        this.captured = null;
+    }
+
     public final boolean isEmpty() {
         return this.captured == null || this.captured.isEmpty();
     }
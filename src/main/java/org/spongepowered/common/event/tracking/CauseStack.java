@@ -74,13 +74,20 @@ PhaseContext peekContext() {
     }
 
     PhaseData pop() {
-        return this.states.pop();
+        final PhaseData data = this.states.pop();
+        if (PhaseSampler.running) {
+            PhaseSampler.publish(peek());
+        }
+        return data;
     }
 
     private CauseStack push(PhaseData tuple) {
         checkNotNull(tuple, "Tuple cannot be null!");
         checkArgument(tuple.context.isComplete(), "Phase context must be complete: %s", tuple);
         this.states.push(tuple);
+        if (PhaseSampler.running) {
+            PhaseSampler.publish(tuple);
+        }
         return this;
     }
 
@@ -48,6 +48,7 @@
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.plugin.PluginContainer;
@@ -58,6 +59,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.phase.TrackingPhase;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.interfaces.IMixinChunk;
@@ -66,7 +68,9 @@
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.function.BiConsumer;
@@ -103,12 +107,18 @@ public final class CauseTracker {
         });
     };
 
+    private static final int MAX_POOLED_CONTEXTS = 64;
+
     private final CauseStack stack = new CauseStack();
+    // Contexts for the hot entity and tile entity tick phases, not thread safe so only accessed from the server thread
+    private final Deque<PhaseContext> contextPool = new ArrayDeque<>();
 
     @Nullable private PhaseData currentProcessingState = null;
 
     public final boolean isVerbose = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().isVerbose();
     public final boolean verboseErrors = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().verboseErrors();
+    public final boolean batchBlockNotifications = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().batchBlockNotifications();
+    public final boolean auditOnly = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().isAuditOnly();
 
     @SuppressWarnings("ConstantConditions")
     private CauseTracker() {
@@ -122,6 +132,39 @@ public static CauseTracker getInstance() {
         return checkNotNull(INSTANCE, "CauseTracker instance was illegally set to null!");
     }
 
+    // ----------------- CONTEXT POOLING ----------------------------------
+
+    /**
+     * Gets a reusable {@link PhaseContext} for short lived phases that are
+     * entered very often, like entity and tile entity ticks. The context
+     * must be given back with {@link #releasePooledContext(PhaseContext)}
+     * after the phase was completed.
+     *
+     * @return A clean pooled context
+     */
+    PhaseContext acquirePooledContext() {
+        checkState(SpongeImpl.getServer().isCallingFromMinecraftThread(), "Pooled contexts may only be used on the server thread!");
+        final PhaseContext context = this.contextPool.pollFirst();
+        return context == null ? new PhaseContext(true) : context;
+    }
+
+    /**
+     * Resets the given context and returns it to the pool. The context
+     * may not be used by the caller afterwards.
+     *
+     * @param context The completed pooled context
+     */
+    void releasePooledContext(PhaseContext context) {
+        if (!context.isPooled()) {
+            return;
+        }
+        checkState(SpongeImpl.getServer().isCallingFromMinecraftThread(), "Pooled contexts may only be used on the server thread!");
+        context.reset();
+        if (this.contextPool.size() < MAX_POOLED_CONTEXTS) {
+            this.contextPool.addFirst(context);
+        }
+    }
+
     // ----------------- STATE ACCESS ----------------------------------
 
     public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
@@ -213,6 +256,7 @@ public void completePhase(IPhaseState prevState) {
         final TrackingPhase phase = state.getPhase();
         final PhaseContext context = currentPhaseData.context;
         try {
+            context.trackRecordedBlockChanges();
             if (state != GeneralPhase.Post.UNWINDING && phase.requiresPost(state)) {
                 // Note that UnwindingPhaseContext is required for something? I don't think it requires anything tbh.
                 switchToPhase(GeneralPhase.Post.UNWINDING, UnwindingPhaseContext.unwind(state, context)
@@ -362,6 +406,28 @@ public String dumpStack() {
 
     // ----------------- SIMPLE GETTERS --------------------------------------
 
+    /**
+     * Gets whether block changes of phases requiring block capturing are
+     * applied right away and only recorded. This is the case for audit only
+     * tracking without any ChangeBlockEvent listener that could cancel the
+     * changes, as post change events are built from the records. Nothing
+     * captured for such block changes, like their drops, is ever processed.
+     *
+     * @return True if block changes are only recorded
+     */
+    public boolean isRecordingOnly() {
+        if (!this.auditOnly) {
+            return false;
+        }
+        if (!ShouldFire.CHANGE_BLOCK_EVENT) {
+            return true;
+        }
+        return !ShouldFire.hasListeners(ChangeBlockEvent.Break.class)
+                && !ShouldFire.hasListeners(ChangeBlockEvent.Place.class)
+                && !ShouldFire.hasListeners(ChangeBlockEvent.Modify.class)
+                && !ShouldFire.hasListeners(ChangeBlockEvent.Decay.class);
+    }
+
     public PhaseData getCurrentPhaseData() {
         return this.stack.peek();
     }
@@ -465,7 +531,9 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
                     .trace(System.err, SpongeImpl.getLogger(), Level.ERROR);
 
         }
-        if (CauseTracker.ENABLED && phaseState.getPhase().requiresBlockCapturing(phaseState)) {
+        final boolean requiresCapturing = CauseTracker.ENABLED && phaseState.getPhase().requiresBlockCapturing(phaseState);
+        final boolean recordOnly = requiresCapturing && this.isRecordingOnly();
+        if (requiresCapturing && !recordOnly) {
             try {
                 // Default, this means we've captured the block. Keeping with the semantics
                 // of the original method where true means it successfully changed.
@@ -491,6 +559,9 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
         }
         else
         {
+            if (recordOnly) {
+                phaseData.context.getBlockChangeRecorder().record(phaseData.context, mixinWorld.asMinecraftWorld(), pos, iblockstate, newState);
+            }
             if (newState.getLightOpacity() != iblockstate.getLightOpacity() || newState.getLightValue() != iblockstate.getLightValue())
             {
                 minecraftWorld.profiler.startSection("checkLight");
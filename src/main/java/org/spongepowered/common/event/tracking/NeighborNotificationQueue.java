@@ -0,0 +1,145 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import net.minecraft.block.Block;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Queues the neighbor notifications of a world instead of running them
+ * recursively. Notifications sent while the queue of the current phase is
+ * being processed are appended to it, so they are processed breadth first
+ * within the phase that sent them. A notification of a block that is already
+ * waiting in the queue, from the same source, is dropped, the queued one will
+ * see the newer state anyway.
+ *
+ * <p>A notification sent from a different phase, like a nested phase entered
+ * while processing a notification, gets its own queue which is processed
+ * before returning to the outer one.</p>
+ */
+public final class NeighborNotificationQueue {
+
+    private final IMixinWorldServer world;
+    private final Deque<Level> levels = new ArrayDeque<>();
+    private long processed;
+    private long coalesced;
+
+    public NeighborNotificationQueue(IMixinWorldServer world) {
+        this.world = world;
+    }
+
+    public void notifyBlockOfStateChange(BlockPos notifyPos, Block sourceBlock, @Nullable BlockPos sourcePos) {
+        final CauseTracker causeTracker = CauseTracker.getInstance();
+        final PhaseData phaseData = causeTracker.getCurrentPhaseData();
+        final Level current = this.levels.peek();
+        if (current != null && current.phaseData == phaseData) {
+            current.add(new Notification(notifyPos, sourceBlock, sourcePos));
+            return;
+        }
+        final Level level = new Level(phaseData);
+        level.add(new Notification(notifyPos, sourceBlock, sourcePos));
+        this.levels.push(level);
+        try {
+            Notification notification;
+            while ((notification = level.queue.poll()) != null) {
+                level.pending.remove(notification);
+                this.processed++;
+                causeTracker.notifyBlockOfStateChange(this.world, notification.notifyPos, notification.sourceBlock, notification.sourcePos);
+            }
+        } finally {
+            this.levels.pop();
+        }
+    }
+
+    public long getProcessedCount() {
+        return this.processed;
+    }
+
+    public long getCoalescedCount() {
+        return this.coalesced;
+    }
+
+    private final class Level {
+
+        final PhaseData phaseData;
+        final Deque<Notification> queue = new ArrayDeque<>();
+        final Set<Notification> pending = new HashSet<>();
+
+        Level(PhaseData phaseData) {
+            this.phaseData = phaseData;
+        }
+
+        void add(Notification notification) {
+            if (this.pending.add(notification)) {
+                this.queue.add(notification);
+            } else {
+                NeighborNotificationQueue.this.coalesced++;
+            }
+        }
+    }
+
+    private static final class Notification {
+
+        final BlockPos notifyPos;
+        final Block sourceBlock;
+        @Nullable final BlockPos sourcePos;
+
+        Notification(BlockPos notifyPos, Block sourceBlock, @Nullable BlockPos sourcePos) {
+            // Mutable positions may be changed by the caller before the notification is processed
+            this.notifyPos = notifyPos.toImmutable();
+            this.sourceBlock = sourceBlock;
+            this.sourcePos = sourcePos == null ? null : sourcePos.toImmutable();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Notification)) {
+                return false;
+            }
+            final Notification that = (Notification) o;
+            return this.sourceBlock == that.sourceBlock && this.notifyPos.equals(that.notifyPos) && Objects.equals(this.sourcePos, that.sourcePos);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.notifyPos.hashCode();
+            result = 31 * result + this.sourceBlock.hashCode();
+            result = 31 * result + (this.sourcePos == null ? 0 : this.sourcePos.hashCode());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.crash.CrashReport;
+import net.minecraft.crash.CrashReportCategory;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.ParallelTileEntityTickingCategory;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+/**
+ * Ticks the tile entities that are declared to be self contained on worker
+ * threads. The main thread waits for the workers, so the world only changes
+ * through the tile entities being ticked.
+ *
+ * <p>The tile entities are grouped by cells of 4x4 chunks, and all tile
+ * entities of a cell are ticked by the same worker. The cells are ticked in
+ * four passes, one for each combination of even and odd cell coordinates,
+ * so two cells ticked at the same time are always a whole cell apart.</p>
+ *
+ * <p>Block changes, entity spawns, neighbor notifications and comparator
+ * updates a tile entity makes on a worker are {@link #defer deferred}. After
+ * each pass they are applied on the main thread, in the order they were
+ * made, within the tile entity tick phase of the tile entity that made
+ * them.</p>
+ *
+ * <p>Chunks that aren't loaded are never loaded or generated for a tile
+ * entity on a worker, it gets an empty chunk instead. Tile entities are
+ * only looked up on a worker, creating a missing one is deferred as well.
+ * An event that has listeners is {@link #deferEvent deferred} too, after
+ * which tile entities of the type that posted it are ticked on the main
+ * thread.</p>
+ */
+public final class ParallelTileEntityTicker {
+
+    private static final int CELL_SHIFT = 6;
+    private static final ThreadLocal<List<Runnable>> DEFERRED_CHANGES = new ThreadLocal<>();
+    private static final ThreadLocal<TileEntity> TICKING_TILE_ENTITY = new ThreadLocal<>();
+    // Only set while a pass runs, so the hot paths of the main thread skip the thread local otherwise
+    private static volatile boolean ticking;
+    // Only accessed from the main thread
+    private static final Map<Class<?>, Boolean> DECLARED_TYPES = new HashMap<>();
+    // Types that posted events while ticked in parallel, only accessed from the main thread
+    private static final Set<Class<?>> EVENT_POSTING_TYPES = new HashSet<>();
+    @Nullable private static List<String> declaredIds;
+
+    /**
+     * Gets whether parallel ticking is enabled and the given tile entity is
+     * of a type declared to be self contained.
+     *
+     * @param tileEntity The tile entity
+     * @return Whether it can be ticked in parallel
+     */
+    public static boolean canTickInParallel(TileEntity tileEntity) {
+        final ParallelTileEntityTickingCategory category =
+                SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelTileEntityTicking();
+        if (!category.isEnabled()) {
+            return false;
+        }
+        if (declaredIds != category.getTileEntities()) {
+            // The config was reloaded
+            declaredIds = category.getTileEntities();
+            DECLARED_TYPES.clear();
+        }
+        return DECLARED_TYPES.computeIfAbsent(tileEntity.getClass(), type -> !EVENT_POSTING_TYPES.contains(type)
+                && declaredIds.contains(((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType().getId()));
+    }
+
+    /**
+     * Gets whether the current thread is ticking tile entities in parallel,
+     * in which case changes to the world have to be {@link #defer deferred}.
+     *
+     * @return Whether changes are deferred
+     */
+    public static boolean isDeferringChanges() {
+        return ticking && DEFERRED_CHANGES.get() != null;
+    }
+
+    /**
+     * Defers a change to the world made while ticking a tile entity in
+     * parallel, it is applied on the main thread after the current pass.
+     *
+     * @param change The change
+     */
+    public static void defer(Runnable change) {
+        DEFERRED_CHANGES.get().add(change);
+    }
+
+    /**
+     * Defers an event that has listeners, posted while ticking a tile entity
+     * in parallel. The listeners run on the main thread with the other
+     * changes of the tile entity, too late to change the outcome for it this
+     * tick, so tile entities of its type are ticked on the main thread from
+     * then on.
+     *
+     * @param post Posts the event to its listeners
+     */
+    public static void deferEvent(Runnable post) {
+        final TileEntity tileEntity = TICKING_TILE_ENTITY.get();
+        defer(() -> {
+            if (EVENT_POSTING_TYPES.add(tileEntity.getClass())) {
+                DECLARED_TYPES.put(tileEntity.getClass(), false);
+                SpongeImpl.getLogger().warn("Tile entity {} posted an event while it was ticked in parallel, it is ticked on the main thread "
+                        + "from now on", ((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType().getId());
+            }
+            post.run();
+        });
+    }
+
+    public static void tick(IMixinWorldServer world, List<TileEntity> tileEntities) {
+        final List<Long2ObjectLinkedOpenHashMap<List<TileEntity>>> passes = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            passes.add(new Long2ObjectLinkedOpenHashMap<>());
+        }
+        for (TileEntity tileEntity : tileEntities) {
+            final BlockPos pos = tileEntity.getPos();
+            final int cellX = pos.getX() >> CELL_SHIFT;
+            final int cellZ = pos.getZ() >> CELL_SHIFT;
+            final long key = ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+            final Long2ObjectLinkedOpenHashMap<List<TileEntity>> pass = passes.get((cellX & 1) | (cellZ & 1) << 1);
+            List<TileEntity> cell = pass.get(key);
+            if (cell == null) {
+                cell = new ArrayList<>();
+                pass.put(key, cell);
+            }
+            cell.add(tileEntity);
+        }
+        for (Long2ObjectLinkedOpenHashMap<List<TileEntity>> pass : passes) {
+            if (pass.isEmpty()) {
+                continue;
+            }
+            final List<Callable<CellResult>> tasks = new ArrayList<>(pass.size());
+            for (List<TileEntity> cell : pass.values()) {
+                tasks.add(() -> tickCell(cell));
+            }
+            final List<Future<CellResult>> results;
+            ticking = true;
+            try {
+                results = Workers.EXECUTOR.invokeAll(tasks);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                ticking = false;
+            }
+            final List<CellResult> cellResults = new ArrayList<>(results.size());
+            for (Future<CellResult> future : results) {
+                final CellResult result;
+                try {
+                    result = future.get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new RuntimeException(e);
+                }
+                cellResults.add(result);
+                int i = 0;
+                try {
+                    for (; i < result.tileEntities.size(); i++) {
+                        TrackingUtil.applyTileEntityChanges(world, (ITickable) result.tileEntities.get(i), result.changes.get(i));
+                    }
+                } catch (Throwable t) {
+                    // Drop the rest of the cell, the changes of the other cells are still applied
+                    result.errors.add(t);
+                    result.failedTileEntities.add(result.tileEntities.get(i));
+                }
+            }
+            // Reported once the whole pass is applied, as a report may stop the server
+            for (CellResult result : cellResults) {
+                for (int i = 0; i < result.errors.size(); i++) {
+                    final TileEntity failedTileEntity = result.failedTileEntities.get(i);
+                    final CrashReport crashReport = CrashReport.makeCrashReport(result.errors.get(i), "Ticking block entity");
+                    final CrashReportCategory category = crashReport.makeCategory("Block entity being ticked");
+                    failedTileEntity.addInfoToCrashReport(category);
+                    SpongeImplHooks.onTileEntityError(failedTileEntity, crashReport);
+                }
+            }
+        }
+    }
+
+    private static CellResult tickCell(List<TileEntity> cell) {
+        final CellResult result = new CellResult();
+        for (TileEntity tileEntity : cell) {
+            if (tileEntity.isInvalid()) {
+                // Removed by the changes of an earlier pass
+                continue;
+            }
+            final List<Runnable> changes = new ArrayList<>();
+            DEFERRED_CHANGES.set(changes);
+            TICKING_TILE_ENTITY.set(tileEntity);
+            try {
+                ((ITickable) tileEntity).update();
+            } catch (Throwable t) {
+                // Keep ticking the rest of the cell, every error is reported on the main thread afterwards
+                result.errors.add(t);
+                result.failedTileEntities.add(tileEntity);
+            } finally {
+                DEFERRED_CHANGES.remove();
+                TICKING_TILE_ENTITY.remove();
+                if (!changes.isEmpty()) {
+                    result.tileEntities.add(tileEntity);
+                    result.changes.add(changes);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static final class CellResult {
+
+        final List<TileEntity> tileEntities = new ArrayList<>();
+        final List<List<Runnable>> changes = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>(0);
+        final List<TileEntity> failedTileEntities = new ArrayList<>(0);
+    }
+
+    private ParallelTileEntityTicker() {
+    }
+
+    // Only started once parallel ticking is used
+    private static final class Workers {
+
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                new ThreadFactoryBuilder().setNameFormat("Sponge - Tile Entity Worker #%d").setDaemon(true).build());
+    }
+}
@@ -78,9 +78,13 @@ public class PhaseContext {
     @Nullable private EntityItemEntityDropsSupplier entityItemEntityDropsSupplier;
     @Nullable private CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> blockEntitySpawnSupplier;
     @Nullable private CaptureBlockPos captureBlockPos;
+    // Only present once a block change was recorded while the cause tracker only audits block changes
+    @Nullable private BlockChangeRecorder blockChangeRecorder;
     @Nullable protected User owner;
     @Nullable protected User notifier;
     @Nullable protected PluginContainer activeContainer;
+    // Only present for contexts pooled by the CauseTracker
+    @Nullable private final PooledCaptures pooledCaptures;
 
     private Object source;
 
@@ -132,6 +136,17 @@ public PhaseContext addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.checkBlockSuppliers();
 
+        if (this.pooledCaptures != null) {
+            // Reuse the suppliers of this pooled context, they only allocate once something is captured
+            this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, this.pooledCaptures.blocks));
+            this.blocksSupplier = this.pooledCaptures.blocks;
+            this.blockItemEntityDropsSupplier = this.pooledCaptures.blockItemEntityDrops;
+            this.blockItemDropsSupplier = this.pooledCaptures.blockItemDrops;
+            this.blockEntitySpawnSupplier = this.pooledCaptures.blockEntitySpawns;
+            this.captureBlockPos = this.pooledCaptures.blockPos;
+            return this;
+        }
+
         CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
         this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier));
         this.blocksSupplier = blocksSupplier;
@@ -198,6 +213,14 @@ public PhaseContext addEntityCaptures() {
         checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
         checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
 
+        if (this.pooledCaptures != null) {
+            this.capturedItemsSupplier = this.pooledCaptures.items;
+            this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, this.pooledCaptures.entities));
+            this.capturedEntitiesSupplier = this.pooledCaptures.entities;
+            this.capturedItemStackSupplier = this.pooledCaptures.itemStacks;
+            return this;
+        }
+
         CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
         // unused, to be removed and re-located when phase context is cleaned up
         //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEMS, capturedItemsSupplier));
@@ -456,11 +479,66 @@ public Optional<Player> getCapturedPlayer() throws IllegalStateException {
                 .getPlayer();
     }
 
+    BlockChangeRecorder getBlockChangeRecorder() {
+        if (this.blockChangeRecorder == null) {
+            this.blockChangeRecorder = new BlockChangeRecorder();
+        }
+        return this.blockChangeRecorder;
+    }
+
+    void trackRecordedBlockChanges() {
+        if (this.blockChangeRecorder != null && !this.blockChangeRecorder.isEmpty()) {
+            this.blockChangeRecorder.process(this);
+        }
+    }
+
     public void forEach(Consumer<NamedCause> consumer) {
         this.contextObjects.forEach(consumer);
     }
 
     PhaseContext() {
+        this.pooledCaptures = null;
+    }
+
+    PhaseContext(boolean pooled) {
+        this.pooledCaptures = pooled ? new PooledCaptures() : null;
+    }
+
+    /**
+     * Clears this context so it can be reused for another phase. Only
+     * contexts that are no longer on the cause stack may be reset.
+     */
+    void reset() {
+        this.isCompleted = false;
+        this.contextObjects.clear();
+        this.cause = null;
+        this.blocksSupplier = null;
+        this.blockItemDropsSupplier = null;
+        this.blockItemEntityDropsSupplier = null;
+        this.capturedItemsSupplier = null;
+        this.capturedEntitiesSupplier = null;
+        this.capturedItemStackSupplier = null;
+        this.entityItemDropsSupplier = null;
+        this.entityItemEntityDropsSupplier = null;
+        this.blockEntitySpawnSupplier = null;
+        this.captureBlockPos = null;
+        if (this.blockChangeRecorder != null) {
+            this.blockChangeRecorder.clear();
+        }
+        this.owner = null;
+        this.notifier = null;
+        this.activeContainer = null;
+        this.source = null;
+        this.cachedClass = null;
+        this.cachedObject = null;
+        this.cachedName = null;
+        if (this.pooledCaptures != null) {
+            this.pooledCaptures.reset();
+        }
+    }
+
+    boolean isPooled() {
+        return this.pooledCaptures != null;
     }
 
     @Override
@@ -491,6 +569,35 @@ public String toString() {
                 .toString();
     }
 
+    /**
+     * The captures of a pooled context, allocated once and reset between
+     * uses. The named causes wrapping them are created for every use, so
+     * a cause kept from an earlier tick never ends up in a later one.
+     */
+    private static final class PooledCaptures {
+
+        final CapturedBlocksSupplier blocks = new CapturedBlocksSupplier();
+        final BlockItemEntityDropsSupplier blockItemEntityDrops = new BlockItemEntityDropsSupplier();
+        final BlockItemDropsSupplier blockItemDrops = new BlockItemDropsSupplier();
+        final CapturedBlockEntitySpawnSupplier blockEntitySpawns = new CapturedBlockEntitySpawnSupplier();
+        final CaptureBlockPos blockPos = new CaptureBlockPos();
+        final CapturedItemsSupplier items = new CapturedItemsSupplier();
+        final CapturedEntitiesSupplier entities = new CapturedEntitiesSupplier();
+        final CapturedItemStackSupplier itemStacks = new CapturedItemStackSupplier();
+
+        void reset() {
+            this.blocks.reset();
+            this.blockItemEntityDrops.reset();
+            this.blockItemDrops.reset();
+            this.blockEntitySpawns.reset();
+            this.blockPos.setPos(null);
+            this.blockPos.setWorld((IMixinWorldServer) null);
+            this.items.reset();
+            this.entities.reset();
+            this.itemStacks.reset();
+        }
+    }
+
     static class BlockItemDropsSupplier extends CapturedMultiMapSupplier<BlockPos, ItemDropData> {
 
         BlockItemDropsSupplier() {
@@ -0,0 +1,240 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.Futures;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A low overhead sampling profiler for the server thread.
+ *
+ * <p>While running, a daemon thread periodically captures the stack trace of
+ * the server thread and tags it with the {@link IPhaseState} and active
+ * {@link PluginContainer} of the phase that was on top of the
+ * {@link CauseTracker} stack at that time. Samples are aggregated into the
+ * collapsed stack format understood by flame graph tooling, where each line
+ * holds the frames from root to leaf separated by {@code ;}, followed by the
+ * amount of times that stack was seen.</p>
+ *
+ * <p>Memory is bounded by both the maximum amount of distinct stacks and the
+ * maximum depth of a single stack. Samples for new stacks after the limit is
+ * reached are still counted, but grouped under their phase only. Stacks
+ * deeper than the limit keep their root frames and lose the innermost
+ * ones.</p>
+ */
+public final class PhaseSampler {
+
+    public static final int DEFAULT_INTERVAL_MILLIS = 10;
+    public static final int DEFAULT_MAX_STACKS = 20000;
+    private static final int MAX_DEPTH = 128;
+    private static final String TRUNCATED = "[truncated]";
+
+    // Only toggled from the server thread, which is also the only thread reading it
+    // when pushing and popping phases.
+    static boolean running = false;
+    @Nullable private static volatile PhaseData currentPhase;
+    // Only changed from the server thread, but read by commands on other threads
+    @Nullable private static volatile PhaseSampler instance;
+
+    private final Thread target;
+    private final Thread samplerThread;
+    private final long intervalMillis;
+    private final int maxStacks;
+    private final Map<String, long[]> samples = new HashMap<>();
+    private long totalSamples;
+    private volatile boolean stopped;
+
+    private PhaseSampler(Thread target, long intervalMillis, int maxStacks) {
+        this.target = target;
+        this.intervalMillis = intervalMillis;
+        this.maxStacks = maxStacks;
+        this.samplerThread = new Thread(this::run, "Sponge - Phase Sampler");
+        this.samplerThread.setDaemon(true);
+    }
+
+    /**
+     * Starts sampling the server thread. When called from another thread, like
+     * the RCON thread, the sampler is started on the server thread and this
+     * waits for it.
+     *
+     * @param intervalMillis The time between two samples, in milliseconds
+     * @param maxStacks The maximum amount of distinct stacks to keep
+     * @return False if the sampler was already running
+     */
+    public static boolean start(long intervalMillis, int maxStacks) {
+        checkArgument(intervalMillis > 0, "Interval must be positive!");
+        checkArgument(maxStacks > 0, "Max stacks must be positive!");
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            return Futures.getUnchecked(SpongeImpl.getServer().callFromMainThread(() -> start(intervalMillis, maxStacks)));
+        }
+        if (instance != null) {
+            return false;
+        }
+        currentPhase = CauseTracker.getInstance().getCurrentPhaseData();
+        running = true;
+        instance = new PhaseSampler(Thread.currentThread(), intervalMillis, maxStacks);
+        instance.samplerThread.start();
+        return true;
+    }
+
+    /**
+     * Stops sampling and writes the collected samples to the given file.
+     * When called from another thread, like the RCON thread, the sampler is
+     * stopped on the server thread and the samples are written by the
+     * calling thread.
+     *
+     * @param file The file to write the collapsed stacks to
+     * @return The amount of samples written, or -1 if the sampler was not
+     *     running
+     * @throws IOException If the samples could not be written
+     */
+    public static long stop(Path file) throws IOException {
+        final PhaseSampler sampler;
+        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            sampler = detach();
+        } else {
+            sampler = Futures.getUnchecked(SpongeImpl.getServer().callFromMainThread(PhaseSampler::detach));
+        }
+        if (sampler == null) {
+            return -1;
+        }
+        sampler.stopped = true;
+        sampler.samplerThread.interrupt();
+        try {
+            sampler.samplerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return sampler.write(file);
+    }
+
+    /**
+     * Removes the running sampler, so the server thread stops publishing
+     * phases to it. Only called from the server thread.
+     *
+     * @return The sampler that was running, if any
+     */
+    @Nullable
+    private static PhaseSampler detach() {
+        final PhaseSampler sampler = instance;
+        if (sampler != null) {
+            running = false;
+            currentPhase = null;
+            instance = null;
+        }
+        return sampler;
+    }
+
+    public static boolean isRunning() {
+        return instance != null;
+    }
+
+    /**
+     * Publishes the phase currently on top of the stack for the sampler
+     * thread. Only called while the sampler is {@link #running}.
+     *
+     * @param data The current phase
+     */
+    static void publish(PhaseData data) {
+        currentPhase = data;
+    }
+
+    private void run() {
+        final StringBuilder builder = new StringBuilder(1024);
+        while (!this.stopped) {
+            try {
+                Thread.sleep(this.intervalMillis);
+            } catch (InterruptedException e) {
+                break;
+            }
+            final PhaseData phase = currentPhase;
+            final StackTraceElement[] trace = this.target.getStackTrace();
+            if (phase == null || trace.length == 0) {
+                continue;
+            }
+            builder.setLength(0);
+            builder.append(phase.state);
+            final PluginContainer container = phase.context.activeContainer;
+            if (container != null) {
+                builder.append(';').append(container.getId());
+            }
+            synchronized (this.samples) {
+                this.totalSamples++;
+                final int phaseLength = builder.length();
+                // The root frame is the last element of the trace
+                final int end = Math.max(0, trace.length - MAX_DEPTH);
+                for (int i = trace.length - 1; i >= end; i--) {
+                    final StackTraceElement element = trace[i];
+                    builder.append(';').append(element.getClassName()).append('.').append(element.getMethodName());
+                }
+                if (end > 0) {
+                    builder.append(';').append(TRUNCATED);
+                }
+                String key = builder.toString();
+                long[] count = this.samples.get(key);
+                if (count == null) {
+                    if (this.samples.size() >= this.maxStacks) {
+                        key = builder.substring(0, phaseLength) + ';' + TRUNCATED;
+                        count = this.samples.computeIfAbsent(key, k -> new long[1]);
+                    } else {
+                        count = new long[1];
+                        this.samples.put(key, count);
+                    }
+                }
+                count[0]++;
+            }
+        }
+    }
+
+    private long write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        synchronized (this.samples) {
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, long[]> entry : this.samples.entrySet()) {
+                    writer.write(entry.getKey().replace(' ', '_'));
+                    writer.write(' ');
+                    writer.write(Long.toString(entry.getValue()[0]));
+                    writer.newLine();
+                }
+            }
+            return this.totalSamples;
+        }
+    }
+}
@@ -139,7 +139,8 @@ public static void tickEntity(net.minecraft.entity.Entity entityIn) {
             return;
         }
 
-        final PhaseContext phaseContext = PhaseContext.start()
+        final CauseTracker causeTracker = CauseTracker.getInstance();
+        final PhaseContext phaseContext = causeTracker.acquirePooledContext()
                 .add(NamedCause.source(entityIn))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -149,7 +150,7 @@ public static void tickEntity(net.minecraft.entity.Entity entityIn) {
         mixinEntity.getCreatorUser()
                 .ifPresent(phaseContext::owner);
 
-        CauseTracker.getInstance().switchToPhase(TickPhase.Tick.ENTITY, phaseContext
+        causeTracker.switchToPhase(TickPhase.Tick.ENTITY, phaseContext
                 .complete());
         final Timing entityTiming = mixinEntity.getTimingsHandler();
         entityTiming.startTiming();
@@ -159,7 +160,8 @@ public static void tickEntity(net.minecraft.entity.Entity entityIn) {
             throw e;
         } finally {
             entityTiming.stopTiming();
-            CauseTracker.getInstance().completePhase(TickPhase.Tick.ENTITY);
+            causeTracker.completePhase(TickPhase.Tick.ENTITY);
+            causeTracker.releasePooledContext(phaseContext);
         }
     }
 
@@ -171,7 +173,8 @@ public static void tickRidingEntity(net.minecraft.entity.Entity entity) {
             // Don't tick entity in chunks queued for unload
             return;
         }
-        final PhaseContext phaseContext = PhaseContext.start()
+        final CauseTracker causeTracker = CauseTracker.getInstance();
+        final PhaseContext phaseContext = causeTracker.acquirePooledContext()
                 .add(NamedCause.source(entity))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -180,18 +183,44 @@ public static void tickRidingEntity(net.minecraft.entity.Entity entity) {
                 .ifPresent(phaseContext::notifier);
         mixinEntity.getCreatorUser()
                 .ifPresent(phaseContext::owner);
-        CauseTracker.getInstance().switchToPhase(TickPhase.Tick.ENTITY, phaseContext
+        causeTracker.switchToPhase(TickPhase.Tick.ENTITY, phaseContext
                 .complete());
         final Timing entityTiming = mixinEntity.getTimingsHandler();
         entityTiming.startTiming();
-        entity.updateRidden();
-        entityTiming.stopTiming();
-        CauseTracker.getInstance().completePhase(TickPhase.Tick.ENTITY);
+        try {
+            entity.updateRidden();
+        } finally {
+            entityTiming.stopTiming();
+            causeTracker.completePhase(TickPhase.Tick.ENTITY);
+            causeTracker.releasePooledContext(phaseContext);
+        }
     }
 
     public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable tile) {
         checkArgument(tile instanceof TileEntity, "ITickable %s is not a TileEntity!", tile);
         checkNotNull(tile, "Cannot capture on a null ticking tile entity!");
+        runInTileEntityPhase(tile, tile::update);
+    }
+
+    /**
+     * Applies the world changes a tile entity made while it was ticked off
+     * the main thread, in the phase it would have made them in if it had
+     * been ticked on the main thread.
+     *
+     * @param mixinWorldServer The world of the tile entity
+     * @param tile The tile entity that made the changes
+     * @param changes The changes, in the order they were made
+     */
+    public static void applyTileEntityChanges(IMixinWorldServer mixinWorldServer, ITickable tile, List<Runnable> changes) {
+        checkArgument(tile instanceof TileEntity, "ITickable %s is not a TileEntity!", tile);
+        runInTileEntityPhase(tile, () -> {
+            for (Runnable change : changes) {
+                change.run();
+            }
+        });
+    }
+
+    private static void runInTileEntityPhase(ITickable tile, Runnable action) {
         final net.minecraft.tileentity.TileEntity tileEntity = (net.minecraft.tileentity.TileEntity) tile;
         final BlockPos pos = tileEntity.getPos();
         final IMixinChunk chunk = ((IMixinTileEntity) tile).getActiveChunk();
@@ -199,7 +228,8 @@ public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable
             // Don't tick TE's in chunks queued for unload
             return;
         }
-        final PhaseContext phaseContext = PhaseContext.start()
+        final CauseTracker causeTracker = CauseTracker.getInstance();
+        final PhaseContext phaseContext = causeTracker.acquirePooledContext()
                 .add(NamedCause.source(tile))
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -219,16 +249,16 @@ public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable
         phaseContext.owner = blockOwner;
         // Add the block snapshot of the tile entity for caches to avoid creating multiple snapshots during processing
         // This is a lazy evaluating snapshot to avoid the overhead of snapshot creation
-        final CauseTracker causeTracker = CauseTracker.getInstance();
         causeTracker.switchToPhase(TickPhase.Tick.TILE_ENTITY, phaseContext
                 .complete());
 
         mixinTileEntity.getTimingsHandler().startTiming();
         try {
-            tile.update();
+            action.run();
         } finally {
             mixinTileEntity.getTimingsHandler().stopTiming();
             causeTracker.completePhase(TickPhase.Tick.TILE_ENTITY);
+            causeTracker.releasePooledContext(phaseContext);
         }
     }
 
@@ -647,6 +677,9 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
         final CapturedMultiMapSupplier<BlockPos, ItemDropData> capturedBlockDrops = phaseContext.getBlockDropSupplier();
         final CapturedMultiMapSupplier<BlockPos, EntityItem> capturedBlockItemEntityDrops = phaseContext.getBlockItemDropSupplier();
         final CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> capturedBlockEntitySpawns = phaseContext.getBlockEntitySpawnSupplier();
+        final CauseTracker causeTracker = CauseTracker.getInstance();
+        // When batching, notifications are merged per position and performed per chunk once all transactions are applied
+        final BlockNotificationBatch notificationBatch = causeTracker.batchBlockNotifications ? new BlockNotificationBatch() : null;
         for (Transaction<BlockSnapshot> transaction : transactions) {
             if (!transaction.isValid()) {
                 // Rememver that this value needs to be set to false to return because of the fact that
@@ -684,7 +717,6 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
             // We call onBlockAdded here for both TE blocks (BlockContainer's) and other blocks.
             // MixinChunk#setBlockState will only call onBlockAdded for BlockContainers when it's passed a null newBlockSnapshot,
             // which only happens when capturing is not being done.
-            final CauseTracker causeTracker = CauseTracker.getInstance();
             if (changeFlag.performBlockPhysics() && originalState.getBlock() != newState.getBlock()) {
                 newState.getBlock().onBlockAdded(mixinWorldServer.asMinecraftWorld(), pos, newState);
                 final PhaseData peek = causeTracker.getCurrentPhaseData();
@@ -697,6 +729,10 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
             phaseState.handleBlockChangeWithUser(oldBlockSnapshot.blockChange, transaction, phaseContext);
 
             final int minecraftChangeFlag = oldBlockSnapshot.getUpdateFlag();
+            if (notificationBatch != null) {
+                notificationBatch.add(mixinWorldServer, pos, originalState, newState, minecraftChangeFlag, changeFlag.updateNeighbors());
+                continue;
+            }
             if (((minecraftChangeFlag & 2) != 0)) { // Always try to notify clients of the change.
                 mixinWorldServer.asMinecraftWorld().notifyBlockUpdate(pos, originalState, newState, minecraftChangeFlag);
             }
@@ -712,6 +748,13 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
                 peek.state.getPhase().unwind(peek.state, peek.context);
             }
         }
+        if (notificationBatch != null && !notificationBatch.isEmpty()) {
+            notificationBatch.flush();
+            final PhaseData peek = causeTracker.getCurrentPhaseData();
+            if (peek.state == GeneralPhase.Post.UNWINDING) {
+                peek.state.getPhase().unwind(peek.state, peek.context);
+            }
+        }
         return noCancelledTransactions;
     }
 
@@ -27,6 +27,8 @@
 import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.ChunkPrimer;
 import org.spongepowered.api.block.BlockSnapshot;
@@ -57,6 +59,27 @@ public interface IMixinChunk {
 
     Optional<User> getBlockNotifier(BlockPos pos);
 
+    /**
+     * Gets the unique id of the block owner, without resolving the user
+     * like {@link #getBlockOwner(BlockPos)} does. The id is only present if
+     * the owner is online or has a known profile, like the user would be.
+     *
+     * @param pos The position of the block
+     * @return The unique id of the owner, if tracked
+     */
+    Optional<UUID> getBlockOwnerUUID(BlockPos pos);
+
+    /**
+     * Gets the unique id of the block notifier, without resolving the user
+     * like {@link #getBlockNotifier(BlockPos)} does. The id is only present
+     * if the notifier is online or has a known profile, like the user would
+     * be.
+     *
+     * @param pos The position of the block
+     * @return The unique id of the notifier, if tracked
+     */
+    Optional<UUID> getBlockNotifierUUID(BlockPos pos);
+
     @Nullable
     IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState currentState, @Nullable BlockSnapshot originalBlockSnapshot);
 
@@ -110,4 +133,22 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
     boolean isChunkLoaded();
 
     boolean isQueuedForUnload();
+
+    /**
+     * Gets the number of entities of the given creature type in the chunk
+     * that count towards its spawn limit, which excludes those that will never
+     * despawn.
+     *
+     * @param type The creature type
+     * @return The number of entities of the type
+     */
+    int getCreatureCount(EnumCreatureType type);
+
+    /**
+     * Recounts the entity in the creature counts of the chunk, after whether
+     * it will despawn may have changed.
+     *
+     * @param entity The entity in the chunk
+     */
+    void updateCreatureCount(Entity entity);
 }
@@ -30,6 +30,9 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
 
 public interface IMixinSaveHandler {
     void loadSpongeDatData(WorldInfo info) throws IOException;
@@ -37,4 +40,17 @@ public interface IMixinSaveHandler {
     void loadDimensionAndOtherData(SaveHandler handler, WorldInfo info, NBTTagCompound compound);
 
     File getSpongeWorldDirectory();
+
+    /**
+     * Reads the data file of a player ahead of them joining, so it doesn't
+     * have to be read again on the main thread if it is unchanged by then.
+     * Safe to call off the main thread.
+     *
+     * @param uniqueId The unique id of the player
+     * @return The player data as it was read from disk, or null if the
+     *     player has no data file
+     */
+    @Nullable NBTTagCompound prefetchPlayerData(UUID uniqueId);
+
+    void discardPrefetchedPlayerData(UUID uniqueId);
 }
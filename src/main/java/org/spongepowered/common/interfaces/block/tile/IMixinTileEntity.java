@@ -90,6 +90,14 @@ default NBTTagCompound getSpongeData() {
 
     void markDirty();
 
+    /**
+     * Gets how many times this tile entity was marked dirty. Checks of its
+     * contents can be reused as long as this count didn't change.
+     *
+     * @return The modification count
+     */
+    long getModificationCount();
+
     boolean isVanilla();
 
     // Timings
@@ -27,6 +27,7 @@
 import co.aikar.timings.Timing;
 import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import org.spongepowered.api.block.BlockState;
@@ -149,4 +150,14 @@ default void onJoinWorld() {
     @Nullable IMixinChunk getActiveChunk();
 
     void setActiveChunk(IMixinChunk chunk);
+
+    /**
+     * Gets the creature types the entity is counted as by its active chunk,
+     * with a bit set for the ordinal of each {@link EnumCreatureType}.
+     *
+     * @return The counted creature types
+     */
+    int getCountedCreatureTypes();
+
+    void setCountedCreatureTypes(int creatureTypes);
 }
@@ -33,6 +33,41 @@ public interface IMixinAnvilChunkLoader {
     // Forge method
     boolean chunkExists(World world, int x, int z);
 
+    /**
+     * Checks whether a chunk exists by only reading the header of its region
+     * file, without reading the chunk itself or creating a missing region
+     * file. Safe to call off the main thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return True if the chunk is saved or waiting to be saved
+     */
+    boolean chunkExistsInRegion(int x, int z);
+
+    /**
+     * Reads the saved data of a chunk ahead of it being loaded. Loading the
+     * chunk uses the data if the chunk hasn't been saved again since. Safe to
+     * call off the main thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     */
+    void prefetchChunk(int x, int z);
+
+    /**
+     * Gets the number of chunks that have been prefetched.
+     *
+     * @return The number of prefetched chunks
+     */
+    long getPrefetchCount();
+
+    /**
+     * Gets the number of chunks that were loaded from prefetched data.
+     *
+     * @return The number of prefetched chunks that were used
+     */
+    long getPrefetchHits();
+
     Path getWorldDir();
 
 }
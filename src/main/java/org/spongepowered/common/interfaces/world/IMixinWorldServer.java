@@ -28,6 +28,7 @@
 import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.BlockPos;
@@ -42,6 +43,7 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.tracking.NeighborNotificationQueue;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -78,6 +80,20 @@ default boolean forceSpawnEntity(Entity entity) {
 
     void onSpongeEntityRemoved(Entity entity);
 
+    /**
+     * Gets the number of loaded entities of the given creature type that
+     * count towards its spawn limit. This is kept up to date as entities are
+     * added and removed, rather than iterating every loaded entity.
+     *
+     * @param type The creature type
+     * @return The number of entities of the type
+     */
+    int countCreatures(EnumCreatureType type);
+
+    IMixinWorldEntitySpawner getEntitySpawner();
+
+    NeighborNotificationQueue getNeighborNotificationQueue();
+
     void addEntityRotationUpdate(Entity entity, Vector3d rotation);
 
     SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag);
@@ -0,0 +1,160 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.inventory.util;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockChest;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.util.EntitySelectors;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the tile entity inventory a hopper pulls from or pushes into,
+ * so it doesn't have to be looked up again every transfer. Resolving the
+ * inventory at the cached position gives the same result as
+ * {@code TileEntityHopper#getInventoryAtPosition}.
+ *
+ * <p>A cached tile entity stays valid until it is invalidated or its chunk
+ * unloads. Positions without a tile entity inventory are looked up again
+ * after {@link #MAX_EMPTY_AGE} ticks, in case the block was replaced without
+ * notifying its neighbours. Otherwise the hopper drops the cache when a
+ * neighbour changes.</p>
+ */
+public final class HopperInventoryCache {
+
+    private static final int MAX_EMPTY_AGE = 20;
+
+    @Nullable private BlockPos pos;
+    @Nullable private TileEntity tileEntity;
+    @Nullable private BlockChest chest;
+    private long resolvedTick;
+    // The modification count of the tile entity when the last check matched
+    private long checkedModCount = -1;
+
+    public void invalidate() {
+        this.pos = null;
+        this.tileEntity = null;
+        this.chest = null;
+        this.checkedModCount = -1;
+    }
+
+    @Nullable
+    public IInventory getInventory(World world, BlockPos pos) {
+        IInventory inventory = this.getTileInventory(world, pos);
+        if (inventory == null) {
+            final List<Entity> list = world.getEntitiesInAABBexcluding(null, new AxisAlignedBB(pos), EntitySelectors.HAS_INVENTORY);
+            if (!list.isEmpty()) {
+                inventory = (IInventory) list.get(world.rand.nextInt(list.size()));
+            }
+        }
+        return inventory;
+    }
+
+    /**
+     * Gets the inventory of the tile entity at the given position, without
+     * looking for entities with an inventory.
+     *
+     * @param world The world
+     * @param pos The position
+     * @return The tile entity inventory, if present
+     */
+    @Nullable
+    public IInventory getTileInventory(World world, BlockPos pos) {
+        if (!this.isValid(world, pos)) {
+            this.resolve(world, pos);
+        }
+        if (this.tileEntity == null) {
+            return null;
+        }
+        if (this.chest != null) {
+            // Double chests and blocked chests depend on the surrounding blocks
+            return this.chest.getContainer(world, pos, true);
+        }
+        return (IInventory) this.tileEntity;
+    }
+
+    /**
+     * Gets whether the check of the given inventory, like whether it is
+     * empty or full, matched last time and the inventory didn't change since.
+     *
+     * @param inventory The inventory
+     * @return Whether the last check still holds
+     */
+    public boolean isKnown(IInventory inventory) {
+        return inventory == this.tileEntity && this.checkedModCount == ((IMixinTileEntity) inventory).getModificationCount();
+    }
+
+    /**
+     * Remembers that a check of the given inventory matched, until the
+     * inventory changes.
+     *
+     * @param inventory The inventory
+     */
+    public void setKnown(IInventory inventory) {
+        if (inventory == this.tileEntity) {
+            this.checkedModCount = ((IMixinTileEntity) inventory).getModificationCount();
+        }
+    }
+
+    private boolean isValid(World world, BlockPos pos) {
+        if (!pos.equals(this.pos)) {
+            return false;
+        }
+        if (this.tileEntity != null) {
+            return !this.tileEntity.isInvalid() && ((IMixinTileEntity) this.tileEntity).getActiveChunk() != null;
+        }
+        final long age = world.getTotalWorldTime() - this.resolvedTick;
+        return age >= 0 && age < MAX_EMPTY_AGE;
+    }
+
+    private void resolve(World world, BlockPos pos) {
+        this.invalidate();
+        this.pos = pos;
+        this.resolvedTick = world.getTotalWorldTime();
+        final IBlockState state = world.getBlockState(pos);
+        final Block block = state.getBlock();
+        if (SpongeImplHooks.hasBlockTileEntity(block, state)) {
+            final TileEntity tileEntity = world.getTileEntity(pos);
+            if (tileEntity instanceof IInventory) {
+                this.tileEntity = tileEntity;
+                if (tileEntity instanceof TileEntityChest && block instanceof BlockChest) {
+                    this.chest = (BlockChest) block;
+                }
+            }
+        }
+    }
+}
@@ -330,7 +330,9 @@ private static boolean redirectGameRulesToCaptureItemDrops(GameRules gameRules,
         if (allowTileDrops && worldIn instanceof IMixinWorldServer) {
             final PhaseData currentPhase = CauseTracker.getInstance().getCurrentPhaseData();
             final IPhaseState currentState = currentPhase.state;
-            if (canCaptureItems && currentState.tracksBlockSpecificDrops()) {
+            // Recorded block changes are never processed, so their drops have to spawn right away
+            final boolean recordOnly = CauseTracker.getInstance().isRecordingOnly() && currentState.getPhase().requiresBlockCapturing(currentState);
+            if (canCaptureItems && currentState.tracksBlockSpecificDrops() && !recordOnly) {
                 final PhaseContext context = currentPhase.context;
                 final Multimap<BlockPos, ItemDropData> multimap = context.getCapturedBlockDrops();
                 final Collection<ItemDropData> itemStacks = multimap.get(pos);
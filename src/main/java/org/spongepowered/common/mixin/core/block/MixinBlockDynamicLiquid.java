@@ -44,6 +44,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.block.BlockUtil;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
@@ -70,6 +71,9 @@ public void onUpdateTick(World worldIn, BlockPos pos, IBlockState state, Random
     @Inject(method = "updateTick", cancellable = true, at = @At(value = "INVOKE",
             target = "Lnet/minecraft/world/World;setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/state/IBlockState;)Z"))
     private void beforeSetBlockState(World worldIn, BlockPos pos, IBlockState state, Random rand, CallbackInfo ci) {
+        if (!ShouldFire.hasListeners(ChangeBlockEvent.Modify.class)) {
+            return;
+        }
         BlockPos sourcePos = pos.up();
         Location<org.spongepowered.api.world.World> loc = new Location<>(((org.spongepowered.api.world.World) worldIn), sourcePos.getX(), sourcePos.getY(), sourcePos.getZ());
         LocatableBlock source = LocatableBlock.builder().location(loc).build();
@@ -91,7 +95,8 @@ private void beforeSetBlockState(World worldIn, BlockPos pos, IBlockState state,
     private void afterCanFlowInto(World worldIn, BlockPos pos, IBlockState state, int level, CallbackInfo ci) {
         IBlockState defaultState = ((Block) (Object) this).getDefaultState();
         // Do not call events when just flowing into air or same liquid
-        if (state.getMaterial() != Material.AIR && state.getMaterial() != defaultState.getMaterial()) {
+        if (state.getMaterial() != Material.AIR && state.getMaterial() != defaultState.getMaterial()
+                && ShouldFire.hasListeners(ChangeBlockEvent.Break.class)) {
             IBlockState newState = defaultState.withProperty(BlockLiquid.LEVEL, level);
             ChangeBlockEvent.Break event = SpongeCommonEventFactory.callChangeBlockEventModifyLiquidBreak(worldIn, pos, newState, 3);
 
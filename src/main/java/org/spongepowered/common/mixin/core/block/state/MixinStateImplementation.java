@@ -30,6 +30,7 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.state.BlockStateBase;
@@ -81,7 +82,12 @@ public abstract class MixinStateImplementation extends BlockStateBase implements
     private ImmutableSet<ImmutableValue<?>> values;
     private ImmutableSet<Key<?>> keys;
     private ImmutableList<ImmutableDataManipulator<?, ?>> manipulators;
-    private ImmutableMap<Key<?>, Object> keyMap;
+
+    // The index of every key into the immutable values and the optionals of the
+    // raw values. Keys are looked up by identity, as they are registry singletons.
+    @Nullable private Reference2IntOpenHashMap<Key<?>> dataIndices;
+    @Nullable private ImmutableValue<?>[] dataValues;
+    @Nullable private Optional<?>[] dataOptionals;
 
     private String id;
 
@@ -244,46 +250,57 @@ public BlockState merge(BlockState that, MergeFunction function) {
     @SuppressWarnings("unchecked")
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        if(this.keyMap == null) {
-            this.populateKeyValues();
-        }
-        if (this.keyMap.containsKey(checkNotNull(key))) {
-            return Optional.of((E) this.keyMap.get(key));
+        final int index = getDataIndex(checkNotNull(key));
+        return index < 0 ? Optional.empty() : (Optional<E>) this.dataOptionals[index];
+    }
+
+    private int getDataIndex(Key<?> key) {
+        if (this.dataIndices == null) {
+            populateKeyValues();
         }
-        return Optional.empty();
+        return this.dataIndices.getInt(key);
     }
 
     private void populateKeyValues() {
-        ImmutableMap.Builder<Key<?>, Object> builder = ImmutableMap.builder();
         ImmutableSet.Builder<Key<?>> keyBuilder = ImmutableSet.builder();
         ImmutableSet.Builder<ImmutableValue<?>> valueBuilder = ImmutableSet.builder();
+        final Reference2IntOpenHashMap<Key<?>> indices = new Reference2IntOpenHashMap<>();
+        indices.defaultReturnValue(-1);
+        final List<ImmutableValue<?>> values = new ArrayList<>();
         for (ImmutableDataManipulator<?, ?> manipulator : this.getManipulators()) {
             for (ImmutableValue<?> value : manipulator.getValues()) {
-                builder.put(value.getKey(), value.get());
                 valueBuilder.add(value);
                 keyBuilder.add(value.getKey());
+                if (!indices.containsKey(value.getKey())) {
+                    indices.put(value.getKey(), values.size());
+                    values.add(value);
+                }
             }
         }
+        final Optional<?>[] optionals = new Optional<?>[values.size()];
+        for (int i = 0; i < optionals.length; i++) {
+            optionals[i] = Optional.of(values.get(i).get());
+        }
         this.values = valueBuilder.build();
         this.keys = keyBuilder.build();
-        this.keyMap = builder.build();
+        this.dataValues = values.toArray(new ImmutableValue<?>[values.size()]);
+        this.dataOptionals = optionals;
+        this.dataIndices = indices;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        checkNotNull(key);
-        for (ImmutableValue<?> value : this.getValues()) {
-            if (value.getKey().equals(key)) {
-                return Optional.of((V) value.asMutable());
-            }
+        final int index = getDataIndex(checkNotNull(key));
+        if (index < 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((V) this.dataValues[index].asMutable());
     }
 
     @Override
     public boolean supports(Key<?> key) {
-        return this.getKeys().contains(checkNotNull(key));
+        return getDataIndex(checkNotNull(key)) >= 0;
     }
 
     @Override
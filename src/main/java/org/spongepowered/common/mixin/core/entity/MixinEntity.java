@@ -165,6 +165,7 @@ public abstract class MixinEntity implements IMixinEntity {
     private EntityType entityType = SpongeImpl.getRegistry().getTranslated(this.getClass(), EntityType.class);
     private boolean teleporting;
     private WeakReference<IMixinChunk> activeChunk = new WeakReference<>(null);
+    private int countedCreatureTypes;
     private net.minecraft.entity.Entity teleportVehicle;
     private float origWidth;
     private float origHeight;
@@ -1336,4 +1337,14 @@ public IMixinChunk getActiveChunk() {
     public void setActiveChunk(@Nullable IMixinChunk chunk) {
         this.activeChunk = new WeakReference<IMixinChunk>(chunk);
     }
+
+    @Override
+    public int getCountedCreatureTypes() {
+        return this.countedCreatureTypes;
+    }
+
+    @Override
+    public void setCountedCreatureTypes(int creatureTypes) {
+        this.countedCreatureTypes = creatureTypes;
+    }
 }
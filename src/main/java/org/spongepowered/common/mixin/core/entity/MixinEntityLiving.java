@@ -63,6 +63,8 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.manipulator.mutable.entity.SpongeAgentData;
 import org.spongepowered.common.data.value.mutable.SpongeValue;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.ai.IMixinEntityAIBase;
 import org.spongepowered.common.interfaces.ai.IMixinEntityAITasks;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
@@ -86,9 +88,12 @@ public abstract class MixinEntityLiving extends MixinEntityLivingBase implements
     @Shadow @Nullable private EntityLivingBase attackTarget;
 
     @Shadow public abstract boolean isAIDisabled();
+    @Shadow public abstract boolean isNoDespawnRequired();
     @Shadow @Nullable public abstract net.minecraft.entity.Entity getLeashedToEntity();
     @Shadow protected abstract void initEntityAI();
 
+    private boolean countedNoDespawnRequired;
+
     @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/EntityLiving;initEntityAI()V"))
     public void onInitAi(EntityLiving this$0) {
         this.initSpongeAI();
@@ -117,6 +122,9 @@ public void firePostConstructEvents() {
 
     @SuppressWarnings("unchecked")
     private void handleDelayedTaskEventFiring(IMixinEntityAITasks tasks) {
+        if (!ShouldFire.hasListeners(AITaskEvent.Add.class)) {
+            return;
+        }
         Iterator<EntityAITasks.EntityAITaskEntry> taskItr = tasks.getTasksUnsafe().iterator();
         while (taskItr.hasNext()) {
             EntityAITasks.EntityAITaskEntry task = taskItr.next();
@@ -165,6 +173,19 @@ public <T extends Agent> Optional<Goal<T>> getGoal(GoalType type) {
         return Optional.empty();
     }
 
+    @Inject(method = "despawnEntity", at = @At("HEAD"))
+    private void onDespawnCheck(CallbackInfo ci) {
+        // Persistence can change while the entity stays in its chunk, which then has to recount it
+        final boolean noDespawnRequired = this.isNoDespawnRequired();
+        if (noDespawnRequired != this.countedNoDespawnRequired) {
+            this.countedNoDespawnRequired = noDespawnRequired;
+            final IMixinChunk activeChunk = this.getActiveChunk();
+            if (activeChunk != null) {
+                activeChunk.updateCreatureCount((EntityLiving) (Object) this);
+            }
+        }
+    }
+
     @ModifyConstant(method = "despawnEntity", constant = @Constant(doubleValue = 16384.0D))
     private double getHardDespawnRange(double value) {
         if (!this.world.isRemote) {
@@ -48,6 +48,7 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.interfaces.ai.IMixinEntityAIBase;
 import org.spongepowered.common.interfaces.ai.IMixinEntityAITasks;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
@@ -150,8 +151,8 @@ public Set<EntityAITasks.EntityAITaskEntry> getTasksUnsafe() {
     @Redirect(method = "addTask", at = @At(value = "INVOKE", target =  "Ljava/util/Set;add(Ljava/lang/Object;)Z", remap = false))
     private boolean onAddEntityTask(Set<EntityAITasks.EntityAITaskEntry> set, Object entry, int priority, EntityAIBase base) {
         ((IMixinEntityAIBase) base).setGoal((Goal<?>) this);
-        if (this.owner == null || ((IMixinEntity) this.owner).isInConstructPhase()) {
-            // Event is fired in firePostConstructEvents
+        if (this.owner == null || ((IMixinEntity) this.owner).isInConstructPhase() || !ShouldFire.hasListeners(AITaskEvent.Add.class)) {
+            // Event is fired in firePostConstructEvents, or nobody listens for it
             return set.add(((EntityAITasks) (Object) this).new EntityAITaskEntry(priority, base));
         }
         final AITaskEvent.Add event = SpongeEventFactory.createAITaskEventAdd(Cause.source(Sponge.getGame()).build(), priority, priority,
@@ -206,7 +207,7 @@ public void removeTask(EntityAIBase aiBase) {
             // Sponge start
             if (otherAiBase.equals(aiBase)) {
                 AITaskEvent.Remove event = null;
-                if (this.owner != null && !((IMixinEntity) this.owner).isInConstructPhase()) {
+                if (this.owner != null && !((IMixinEntity) this.owner).isInConstructPhase() && ShouldFire.hasListeners(AITaskEvent.Remove.class)) {
                     event = SpongeEventFactory.createAITaskEventRemove(Cause.of(NamedCause.source(Sponge.getGame())),
                             (Goal) this, (Agent) this.owner, (AITask) otherAiBase, entityaitaskentry.priority);
                     SpongeImpl.postEvent(event);
@@ -81,6 +81,7 @@
 import net.minecraft.world.GameRules;
 import net.minecraft.world.GameType;
 import net.minecraft.world.IInteractionObject;
+import net.minecraft.world.WorldServer;
 import org.objectweb.asm.Opcodes;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -180,6 +181,7 @@
 import org.spongepowered.common.util.SkinUtil;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.border.PlayerOwnBorderListener;
+import org.spongepowered.common.world.storage.ChunkPreloader;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 
 import java.time.Instant;
@@ -265,6 +267,12 @@ public void readFromNbt(NBTTagCompound compound) {
     @Nullable private WorldBorder worldBorder;
     private final PlayerOwnBorderListener borderListener = new PlayerOwnBorderListener((EntityPlayerMP) (Object) this);
 
+    // Where the player was when the chunks ahead of them were last predicted
+    private int chunkPreloadTicks;
+    @Nullable private net.minecraft.world.World chunkPreloadWorld;
+    private double chunkPreloadX;
+    private double chunkPreloadZ;
+
     @Inject(method = "removeEntity", at = @At(value = "INVOKE",
             target = "Lnet/minecraft/network/NetHandlerPlayServer;sendPacket(Lnet/minecraft/network/Packet;)V"))
     private void onRemoveEntity(Entity entityIn, CallbackInfo ci) {
@@ -1032,6 +1040,23 @@ private void updateHealthPriorToArmor(CallbackInfo ci) {
         refreshScaledHealth();
     }
 
+    @Inject(method = "onUpdateEntity", at = @At("RETURN"))
+    private void onUpdateEntityPreloadChunks(CallbackInfo ci) {
+        if (++this.chunkPreloadTicks < ChunkPreloader.INTERVAL) {
+            return;
+        }
+        this.chunkPreloadTicks = 0;
+        final boolean sameWorld = this.chunkPreloadWorld == this.world;
+        final double distanceX = this.posX - this.chunkPreloadX;
+        final double distanceZ = this.posZ - this.chunkPreloadZ;
+        this.chunkPreloadWorld = this.world;
+        this.chunkPreloadX = this.posX;
+        this.chunkPreloadZ = this.posZ;
+        if (sameWorld && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().usePredictiveChunkLoading()) {
+            ChunkPreloader.preloadAhead((WorldServer) this.world, this.posX, this.posZ, distanceX, distanceZ);
+        }
+    }
+
     @Override
     public void setHealthScale(double scale) {
         checkArgument(scale > 0, "Health scale must be greater than 0!");
@@ -95,6 +95,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.command.SpongeCommandManager;
+import org.spongepowered.common.config.SpongeConfigSaveManager;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
@@ -339,6 +340,12 @@ public void onServerStopping(CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "stopServer()V", at = @At("RETURN"))
+    public void onServerStopped(CallbackInfo ci) {
+        // Worlds save their configs while unloading, make sure those writes hit the disk
+        SpongeConfigSaveManager.getInstance().flush();
+    }
+
     /**
      * @author blood - December 23rd, 2015
      * @author Zidane - March 13th, 2016
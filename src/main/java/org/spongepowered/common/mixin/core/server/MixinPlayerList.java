@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.core.server;
 
+import co.aikar.timings.SpongeTimings;
 import com.flowpowered.math.vector.Vector3d;
 import com.mojang.authlib.GameProfile;
 import io.netty.buffer.Unpooled;
@@ -226,6 +227,16 @@ private void disconnectClient(NetworkManager netManager, Optional<Text> disconne
     }
 
     public void initializeConnectionToPlayer(NetworkManager netManager, EntityPlayerMP playerIn, @Nullable NetHandlerPlayServer handler) {
+        // Measures how long each login holds up the main thread
+        SpongeTimings.playerLoginTimer.startTiming();
+        try {
+            this.spongeInitializeConnectionToPlayer(netManager, playerIn, handler);
+        } finally {
+            SpongeTimings.playerLoginTimer.stopTiming();
+        }
+    }
+
+    private void spongeInitializeConnectionToPlayer(NetworkManager netManager, EntityPlayerMP playerIn, @Nullable NetHandlerPlayServer handler) {
         GameProfile gameprofile = playerIn.getGameProfile();
         PlayerProfileCache playerprofilecache = this.mcServer.getPlayerProfileCache();
         GameProfile gameprofile1 = playerprofilecache.getProfileByUUID(gameprofile.getId());
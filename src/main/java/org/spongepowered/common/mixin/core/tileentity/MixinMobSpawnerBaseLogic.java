@@ -51,6 +51,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 
@@ -114,13 +115,15 @@ private static Entity readEntityFromCompoundAtWorld(NBTTagCompound compound, Wor
             return null;
         }
 
-        SpawnCause cause = SpawnCause.builder().type(SpawnTypes.MOB_SPAWNER).build(); // We can't use MobspawnerSpawnCause yet.
-        Transform<org.spongepowered.api.world.World> transform = new Transform<>(
-                ((org.spongepowered.api.world.World) world), new Vector3d(x, y, z));
-        ConstructEntityEvent.Pre event = SpongeEventFactory.createConstructEntityEventPre(Cause.of(NamedCause.source(cause)), type, transform);
-        SpongeImpl.postEvent(event);
-        if (event.isCancelled()) {
-            return null;
+        if (ShouldFire.hasListeners(ConstructEntityEvent.Pre.class)) {
+            SpawnCause cause = SpawnCause.builder().type(SpawnTypes.MOB_SPAWNER).build(); // We can't use MobspawnerSpawnCause yet.
+            Transform<org.spongepowered.api.world.World> transform = new Transform<>(
+                    ((org.spongepowered.api.world.World) world), new Vector3d(x, y, z));
+            ConstructEntityEvent.Pre event = SpongeEventFactory.createConstructEntityEventPre(Cause.of(NamedCause.source(cause)), type, transform);
+            SpongeImpl.postEvent(event);
+            if (event.isCancelled()) {
+                return null;
+            }
         }
         Entity entity;
         try {
@@ -60,7 +60,6 @@
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.data.util.NbtDataUtil;
-import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
@@ -87,6 +86,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
     private User spongeOwner;
     private boolean hasSetOwner = false;
     private WeakReference<IMixinChunk> activeChunk = new WeakReference<>(null);
+    private long modificationCount;
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World world;
@@ -105,15 +105,12 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
 
     @Inject(method = "markDirty", at = @At(value = "HEAD"))
     public void onMarkDirty(CallbackInfo ci) {
-        if (this.world != null && !this.world.isRemote) {
-            // This handles transfers to this TE from a source such as a Hopper
-            CauseTracker.getInstance().getCurrentPhaseData().context.getSource(TileEntity.class).ifPresent(currentTick -> {
-                if (currentTick != this) {
-                    net.minecraft.tileentity.TileEntity te = (net.minecraft.tileentity.TileEntity) currentTick;
-//                    world.getCauseTracker().trackTargetBlockFromSource(te, te.getPos(), this.getBlockType(), this.pos, PlayerTracker.Type.NOTIFIER);
-                }
-            });
-        }
+        this.modificationCount++;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return this.modificationCount;
     }
 
     @SuppressWarnings({"rawtypes"})
@@ -76,13 +76,15 @@ public void onConstructed(CallbackInfo ci) {
 
     @Inject(method = "putDropInInventoryAllSlots", at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/item/EntityItem;getItem()Lnet/minecraft/item/ItemStack;"))
     private static void onPutDrop(IInventory inventory, IInventory hopper, EntityItem entityItem, CallbackInfoReturnable<Boolean> callbackInfo) {
+        // Hoppers picking up items pass no source inventory, so check that before looking up the creator
+        if (!(inventory instanceof TileEntity)) {
+            return;
+        }
         ((IMixinEntity) entityItem).getCreatorUser().ifPresent(owner -> {
-            if (inventory instanceof TileEntity) {
-                TileEntity te = (TileEntity) inventory;
-                BlockPos pos = te.getPos();
-                IMixinChunk spongeChunk = (IMixinChunk) te.getWorld().getChunkFromBlockCoords(pos);
-                spongeChunk.addTrackedBlockPosition(te.getBlockType(), pos, owner, PlayerTracker.Type.NOTIFIER);
-            }
+            TileEntity te = (TileEntity) inventory;
+            BlockPos pos = te.getPos();
+            IMixinChunk spongeChunk = (IMixinChunk) te.getWorld().getChunkFromBlockCoords(pos);
+            spongeChunk.addTrackedBlockPosition(te.getBlockType(), pos, owner, PlayerTracker.Type.NOTIFIER);
         });
     }
 
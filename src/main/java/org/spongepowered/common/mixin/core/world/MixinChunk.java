@@ -38,6 +38,8 @@
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.init.Blocks;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
@@ -90,13 +92,16 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.InternalNamedCauses;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.ParallelTileEntityTicker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseData;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
@@ -142,6 +147,9 @@ public abstract class MixinChunk implements Chunk, IMixinChunk, IMixinCachable {
     private net.minecraft.world.chunk.Chunk[] neighbors = new net.minecraft.world.chunk.Chunk[4];
     private long cacheKey;
     private Cause chunkCause;
+    // The entities of each creature type that count towards its spawn limit
+    private final int[] creatureCounts = new int[CREATURE_TYPES.length];
+    private static final EnumCreatureType[] CREATURE_TYPES = EnumCreatureType.values();
     private static final Direction[] CARDINAL_DIRECTIONS = new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
 
     private static final Vector3i BIOME_SIZE = new Vector3i(SpongeChunkLayout.CHUNK_SIZE.getX(), 1, SpongeChunkLayout.CHUNK_SIZE.getZ());
@@ -246,6 +254,19 @@ public void setIsSpawning(boolean spawning) {
     private void onChunkAddEntity(Entity entityIn, CallbackInfo ci) {
         if (!entityIn.isDead) {
             ((IMixinEntity) entityIn).setActiveChunk(this);
+            ((IMixinEntity) entityIn).setCountedCreatureTypes(0);
+            this.updateCreatureCount(entityIn);
+        }
+    }
+
+    @Inject(method = "getTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/world/chunk/Chunk$EnumCreateEntityType;)Lnet/minecraft/tileentity/TileEntity;",
+            at = @At("HEAD"), cancellable = true)
+    private void onGetTileEntity(BlockPos pos, EnumCreateEntityType createType, CallbackInfoReturnable<TileEntity> cir) {
+        // Tile entities ticked in parallel may only look up tile entities, creating one changes the chunk and the world
+        if (createType != EnumCreateEntityType.CHECK && ParallelTileEntityTicker.isDeferringChanges()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            ParallelTileEntityTicker.defer(() -> this.getTileEntity(immutablePos, createType));
+            cir.setReturnValue(this.getTileEntity(pos, EnumCreateEntityType.CHECK));
         }
     }
 
@@ -256,7 +277,45 @@ private void onChunkAddTileEntity(BlockPos pos, TileEntity tileEntityIn, Callbac
 
     @Inject(method = "removeEntityAtIndex", at = @At("RETURN"))
     private void onChunkRemoveEntityAtIndex(Entity entityIn, int index, CallbackInfo ci) {
-        ((IMixinEntity) entityIn).setActiveChunk(null);
+        final IMixinEntity spongeEntity = (IMixinEntity) entityIn;
+        if (spongeEntity.getActiveChunk() == this) {
+            this.addCreatureCounts(spongeEntity.getCountedCreatureTypes(), -1);
+            spongeEntity.setCountedCreatureTypes(0);
+        }
+        spongeEntity.setActiveChunk(null);
+    }
+
+    @Override
+    public int getCreatureCount(EnumCreatureType type) {
+        return this.creatureCounts[type.ordinal()];
+    }
+
+    @Override
+    public void updateCreatureCount(Entity entity) {
+        int creatureTypes = 0;
+        // Matches World#countEntities, which skips entities that will never despawn
+        if (!(entity instanceof EntityLiving) || !((EntityLiving) entity).isNoDespawnRequired()) {
+            for (EnumCreatureType type : CREATURE_TYPES) {
+                if (SpongeImplHooks.isCreatureOfType(entity, type)) {
+                    creatureTypes |= 1 << type.ordinal();
+                }
+            }
+        }
+        final IMixinEntity spongeEntity = (IMixinEntity) entity;
+        final int countedTypes = spongeEntity.getCountedCreatureTypes();
+        if (creatureTypes != countedTypes) {
+            this.addCreatureCounts(countedTypes, -1);
+            this.addCreatureCounts(creatureTypes, 1);
+            spongeEntity.setCountedCreatureTypes(creatureTypes);
+        }
+    }
+
+    private void addCreatureCounts(int creatureTypes, int delta) {
+        for (int i = 0; creatureTypes != 0; i++, creatureTypes >>>= 1) {
+            if ((creatureTypes & 1) != 0) {
+                this.creatureCounts[i] += delta;
+            }
+        }
     }
 
     @Redirect(method = "removeTileEntity", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntity;invalidate()V"))
@@ -554,7 +613,7 @@ public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb
             return;
         }
 
-        if (listToFill.size() == 0) {
+        if (listToFill.size() == 0 || !ShouldFire.hasListeners(CollideEntityEvent.class)) {
             return;
         }
 
@@ -577,7 +636,7 @@ public void onGetEntitiesOfTypeWithinAAAB(Class<? extends Entity> entityClass, A
             return;
         }
 
-        if (listToFill.size() == 0) {
+        if (listToFill.size() == 0 || !ShouldFire.hasListeners(CollideEntityEvent.class)) {
             return;
         }
 
@@ -793,6 +852,16 @@ public Optional<User> getBlockNotifier(BlockPos pos) {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<UUID> getBlockNotifierUUID(BlockPos pos) {
+        return Optional.empty();
+    }
+
     @Override
     public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
 
@@ -129,6 +129,7 @@
 import org.spongepowered.common.data.type.SpongeTileEntityType;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.event.tracking.ParallelTileEntityTicker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.interfaces.IMixinChunk;
@@ -1594,6 +1595,8 @@ public void updateEntities() {
             this.stopTileEntityRemovelInWhile(); // Sponge
         }
 
+        this.tickParallelTileEntities(); // Sponge
+
         // This is handled below in removeTileEntitiesForRemovedChunks
         if (false && !this.tileEntitiesToBeRemoved.isEmpty()) {
             // Sponge start - use forge hook
@@ -1722,6 +1725,28 @@ protected void stopTileEntityAndStartRemoval() { }
 
     protected void stopTileEntityRemovelInWhile() { }
 
+    protected void tickParallelTileEntities() { }
+
+    @Inject(method = "notifyBlockUpdate", at = @At("HEAD"), cancellable = true)
+    private void onNotifyBlockUpdate(BlockPos pos, IBlockState oldState, IBlockState newState, int flags, CallbackInfo ci) {
+        // Tile entities ticked in parallel call this to send their changes, which marks the block dirty in the player chunk map
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            ParallelTileEntityTicker.defer(() -> this.notifyBlockUpdate(immutablePos, oldState, newState, flags));
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "updateComparatorOutputLevel", at = @At("HEAD"), cancellable = true)
+    private void onUpdateComparatorOutputLevel(BlockPos pos, Block blockIn, CallbackInfo ci) {
+        // Tile entities ticked in parallel call this when they are marked dirty
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            ParallelTileEntityTicker.defer(() -> this.updateComparatorOutputLevel(immutablePos, blockIn));
+            ci.cancel();
+        }
+    }
+
     protected void startPendingTileEntityTimings() {}
 
     protected void endPendingTileEntities() { }
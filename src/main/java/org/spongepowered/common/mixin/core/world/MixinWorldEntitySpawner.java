@@ -25,6 +25,13 @@
 package org.spongepowered.common.mixin.core.world;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntitySpawnPlacementRegistry;
@@ -57,11 +64,13 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.event.InternalNamedCauses;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
+import org.spongepowered.common.interfaces.world.IMixinWorldEntitySpawner;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
@@ -70,11 +79,12 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
 @Mixin(WorldEntitySpawner.class)
-public abstract class MixinWorldEntitySpawner {
+public abstract class MixinWorldEntitySpawner implements IMixinWorldEntitySpawner {
 
     private static final String BIOME_CAN_SPAWN_ANIMAL =
         "Lnet/minecraft/world/WorldEntitySpawner;canCreatureTypeSpawnAtLocation(Lnet/minecraft/entity/EntityLiving$SpawnPlacementType;"
@@ -85,6 +95,17 @@ public abstract class MixinWorldEntitySpawner {
     @Nullable
     private static EntityType spawnerEntityType;
     private List<Chunk> eligibleSpawnChunks = new ArrayList<>();
+    // Chunks within mob spawn range of a player, mapped to the players in range of them.
+    // These are updated as players cross chunk boundaries instead of being rebuilt every spawn cycle.
+    private final Long2ObjectOpenHashMap<List<EntityPlayer>> playerRangeChunks = new Long2ObjectOpenHashMap<>();
+    private final Long2IntOpenHashMap playerRangeInnerChunks = new Long2IntOpenHashMap();
+    private final Object2LongOpenHashMap<EntityPlayer> trackedPlayerChunks = new Object2LongOpenHashMap<>();
+    private final Set<EntityPlayer> spawningPlayers = new ReferenceOpenHashSet<>();
+    private int trackedMobSpawnRange = -1;
+    // The number of mobs of the creature type being spawned within range of each player, used for per player limits
+    private final Object2IntOpenHashMap<EntityPlayer> playerMobCounts = new Object2IntOpenHashMap<>();
+    private long spawnAttempts;
+    private long successfulSpawns;
 
     /**
      * @author blood - February 18th, 2017
@@ -99,6 +120,9 @@ public abstract class MixinWorldEntitySpawner {
     @Overwrite
     public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostileMobs, boolean spawnPeacefulMobs, boolean spawnOnSetTickRate) {
         if (!spawnHostileMobs && !spawnPeacefulMobs) {
+            if (!this.trackedPlayerChunks.isEmpty()) {
+                this.clearTrackedPlayers();
+            }
             return 0;
         }
 
@@ -128,35 +152,30 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
         // mob spawn range set by server.
         final int MOB_SPAWN_COUNT_DIV = (2 * mobSpawnRange + 1)*(2 * mobSpawnRange + 1);
 
-        for (EntityPlayer entityplayer : worldServerIn.playerEntities) {
-            // We treat players who do not affect spawning as "spectators"
-            if (!((IMixinEntityPlayer) entityplayer).affectsSpawning() || entityplayer.isSpectator()) {
+        this.updateTrackedPlayers(worldServerIn, mobSpawnRange);
+
+        final Iterator<Long2ObjectMap.Entry<List<EntityPlayer>>> rangeIterator = this.playerRangeChunks.long2ObjectEntrySet().fastIterator();
+        while (rangeIterator.hasNext()) {
+            final Long2ObjectMap.Entry<List<EntityPlayer>> entry = rangeIterator.next();
+            final long chunkKey = entry.getLongKey();
+            final int chunkX = (int) chunkKey;
+            final int chunkZ = (int) (chunkKey >> 32);
+            final Chunk chunk = ((IMixinChunkProviderServer) worldServerIn.getChunkProvider()).getLoadedChunkWithoutMarkingActive(chunkX, chunkZ);
+            if (chunk == null || (chunk.unloadQueued && !((IMixinChunk) chunk).isPersistedChunk())) {
+                // Don't attempt to spawn in an unloaded chunk
                 continue;
             }
 
-            int playerPosX = MathHelper.floor(entityplayer.posX / 16.0D);
-            int playerPosZ = MathHelper.floor(entityplayer.posZ / 16.0D);
+            final IMixinChunk spongeChunk = (IMixinChunk) chunk;
+            // Each player in range counts the chunk once, as each player's (2r+1)^2 area did before
+            chunkSpawnCandidates += entry.getValue().size();
+            final ChunkPos chunkPos = chunk.getPos();
+            if (this.playerRangeInnerChunks.get(chunkKey) > 0 && worldServerIn.getWorldBorder().contains(chunkPos)) {
+                PlayerChunkMapEntry playerchunkmapentry = worldServerIn.getPlayerChunkMap().getEntry(chunkPos.x, chunkPos.z);
 
-            for (int i = -mobSpawnRange; i <= mobSpawnRange; ++i) {
-                for (int j = -mobSpawnRange; j <= mobSpawnRange; ++j) {
-                    boolean flag = i == -mobSpawnRange || i == mobSpawnRange || j == -mobSpawnRange || j == mobSpawnRange;
-                    final Chunk chunk = ((IMixinChunkProviderServer) worldServerIn.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i + playerPosX, j + playerPosZ);
-                    if (chunk == null || (chunk.unloadQueued && !((IMixinChunk) chunk).isPersistedChunk())) {
-                        // Don't attempt to spawn in an unloaded chunk
-                        continue;
-                    }
-
-                    final IMixinChunk spongeChunk = (IMixinChunk) chunk;
-                    ++chunkSpawnCandidates;
-                    final ChunkPos chunkPos = chunk.getPos();
-                    if (!flag && worldServerIn.getWorldBorder().contains(chunkPos)) {
-                        PlayerChunkMapEntry playerchunkmapentry = worldServerIn.getPlayerChunkMap().getEntry(chunkPos.x, chunkPos.z);
-
-                        if (playerchunkmapentry != null && playerchunkmapentry.isSentToPlayers() && !spongeChunk.isSpawning()) {
-                            this.eligibleSpawnChunks.add(chunk);
-                            spongeChunk.setIsSpawning(true);
-                        }
-                    }
+                if (playerchunkmapentry != null && playerchunkmapentry.isSentToPlayers() && !spongeChunk.isSpawning()) {
+                    this.eligibleSpawnChunks.add(chunk);
+                    spongeChunk.setIsSpawning(true);
                 }
             }
         }
@@ -173,6 +192,7 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
         int totalSpawned = 0;
         final long worldTotalTime = worldServerIn.getTotalWorldTime();
         final SpongeConfig<?> activeConfig = ((IMixinWorldServer) worldServerIn).getActiveConfig();
+        final boolean perPlayerLimits = activeConfig.getConfig().getSpawner().usePerPlayerLimits();
 
         labelOuterLoop:
         for (EnumCreatureType enumCreatureType : EnumCreatureType.values()) {
@@ -197,17 +217,30 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
             }
 
             if ((!enumCreatureType.getPeacefulCreature() || spawnPeacefulMobs) && (enumCreatureType.getPeacefulCreature() || spawnHostileMobs)) {
-                int entityCount = SpongeImplHooks.countEntities(worldServerIn, enumCreatureType, true);
-                int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
-                if (entityCount > maxCount) {
-                    continue labelOuterLoop;
+                int mobLimit;
+                if (perPlayerLimits) {
+                    // Each player gets their own limit, so the world wide count doesn't apply
+                    if (!this.countPlayerMobs(worldServerIn, enumCreatureType, limit)) {
+                        continue labelOuterLoop;
+                    }
+                    mobLimit = Integer.MAX_VALUE;
+                } else {
+                    int entityCount = SpongeImplHooks.countEntities(worldServerIn, enumCreatureType, true);
+                    int maxCount = limit * chunkSpawnCandidates / MOB_SPAWN_COUNT_DIV;
+                    if (entityCount > maxCount) {
+                        continue labelOuterLoop;
+                    }
+                    mobLimit = maxCount - entityCount + 1;
                 }
 
                 chunkIterator = this.eligibleSpawnChunks.iterator();
-                int mobLimit = maxCount - entityCount + 1;
                 labelChunkStart:
                 while (chunkIterator.hasNext() && mobLimit > 0) {
                     final Chunk chunk = chunkIterator.next();
+                    if (perPlayerLimits && !this.isBelowPlayerLimit(ChunkPos.asLong(chunk.x, chunk.z), limit)) {
+                        // Every player near this chunk already has enough mobs around them
+                        continue;
+                    }
                     final BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
                     final BlockPos blockpos = getRandomChunkPosition(worldServerIn, chunk);
                     int k1 = blockpos.getX();
@@ -244,7 +277,7 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
                                     }
 
                                     final EntityType entityType = EntityTypeRegistryModule.getInstance().getForClass(spawnListEntry.entityClass);
-                                    if (entityType != null) {
+                                    if (entityType != null && ShouldFire.hasListeners(ConstructEntityEvent.Pre.class)) {
                                         Vector3d vector3d = new Vector3d(spawnX, spawnY, spawnZ);
                                         Transform<org.spongepowered.api.world.World> transform = new Transform<>((org.spongepowered.api.world.World) worldServerIn, vector3d);
                                         ConstructEntityEvent.Pre event = SpongeEventFactory.createConstructEntityEventPre(cause, entityType, transform);
@@ -253,6 +286,7 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
                                         }
                                     }
 
+                                    ++this.spawnAttempts;
                                     if (worldServerIn.canCreatureTypeSpawnHere(enumCreatureType, spawnListEntry, mutableBlockPos) && WorldEntitySpawner.canCreatureTypeSpawnAtLocation(EntitySpawnPlacementRegistry.getPlacementForEntity(spawnListEntry.entityClass), worldServerIn, mutableBlockPos)) {
                                         EntityLiving entityliving;
 
@@ -272,7 +306,11 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
 
                                             if (entityNotColliding) {
                                                 ++spawnCount;
+                                                ++this.successfulSpawns;
                                                 worldServerIn.spawnEntity(entityliving);
+                                                if (perPlayerLimits) {
+                                                    this.addPlayerMob(ChunkPos.asLong(l2 >> 4, j3 >> 4));
+                                                }
                                             } else {
                                                 entityliving.setDead();
                                             }
@@ -281,6 +319,9 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
                                             if (mobLimit <= 0 || spawnCount >= SpongeImplHooks.getMaxSpawnPackSize(entityliving)) {
                                                 continue labelChunkStart;
                                             }
+                                            if (perPlayerLimits && !this.isBelowPlayerLimit(ChunkPos.asLong(chunk.x, chunk.z), limit)) {
+                                                continue labelChunkStart;
+                                            }
                                         }
 
                                         totalSpawned += spawnCount;
@@ -301,6 +342,144 @@ public int findChunksForSpawning(WorldServer worldServerIn, boolean spawnHostile
         return totalSpawned;
     }
 
+    private void updateTrackedPlayers(WorldServer worldServerIn, int mobSpawnRange) {
+        if (mobSpawnRange != this.trackedMobSpawnRange) {
+            this.clearTrackedPlayers();
+            this.trackedMobSpawnRange = mobSpawnRange;
+        }
+
+        for (EntityPlayer entityplayer : worldServerIn.playerEntities) {
+            // We treat players who do not affect spawning as "spectators"
+            if (((IMixinEntityPlayer) entityplayer).affectsSpawning() && !entityplayer.isSpectator()) {
+                this.spawningPlayers.add(entityplayer);
+            }
+        }
+
+        final Iterator<Object2LongMap.Entry<EntityPlayer>> iterator = this.trackedPlayerChunks.object2LongEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            final Object2LongMap.Entry<EntityPlayer> entry = iterator.next();
+            if (!this.spawningPlayers.contains(entry.getKey())) {
+                this.updatePlayerRange(entry.getKey(), entry.getLongValue(), false);
+                iterator.remove();
+            }
+        }
+
+        for (EntityPlayer entityplayer : this.spawningPlayers) {
+            final long chunkKey = ChunkPos.asLong(MathHelper.floor(entityplayer.posX / 16.0D), MathHelper.floor(entityplayer.posZ / 16.0D));
+            if (!this.trackedPlayerChunks.containsKey(entityplayer)) {
+                this.updatePlayerRange(entityplayer, chunkKey, true);
+            } else {
+                final long previousKey = this.trackedPlayerChunks.getLong(entityplayer);
+                if (previousKey == chunkKey) {
+                    continue;
+                }
+                this.updatePlayerRange(entityplayer, previousKey, false);
+                this.updatePlayerRange(entityplayer, chunkKey, true);
+            }
+            this.trackedPlayerChunks.put(entityplayer, chunkKey);
+        }
+        this.spawningPlayers.clear();
+    }
+
+    private void updatePlayerRange(EntityPlayer player, long chunkKey, boolean add) {
+        final int range = this.trackedMobSpawnRange;
+        final int playerPosX = (int) chunkKey;
+        final int playerPosZ = (int) (chunkKey >> 32);
+        for (int i = -range; i <= range; ++i) {
+            for (int j = -range; j <= range; ++j) {
+                final long key = ChunkPos.asLong(i + playerPosX, j + playerPosZ);
+                if (add) {
+                    this.playerRangeChunks.computeIfAbsent(key, k -> new ArrayList<>(1)).add(player);
+                } else {
+                    final List<EntityPlayer> players = this.playerRangeChunks.get(key);
+                    if (players != null && players.remove(player) && players.isEmpty()) {
+                        this.playerRangeChunks.remove(key);
+                    }
+                }
+                if (i != -range && i != range && j != -range && j != range) {
+                    addCount(this.playerRangeInnerChunks, key, add ? 1 : -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the mobs of the given type around each tracked player, from the
+     * creature counts of the chunks in range.
+     *
+     * @return Whether any player is still below the limit
+     */
+    private boolean countPlayerMobs(WorldServer worldServer, EnumCreatureType type, int limit) {
+        this.playerMobCounts.clear();
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) worldServer.getChunkProvider();
+        final Iterator<Long2ObjectMap.Entry<List<EntityPlayer>>> rangeIterator = this.playerRangeChunks.long2ObjectEntrySet().fastIterator();
+        while (rangeIterator.hasNext()) {
+            final Long2ObjectMap.Entry<List<EntityPlayer>> entry = rangeIterator.next();
+            final long chunkKey = entry.getLongKey();
+            final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive((int) chunkKey, (int) (chunkKey >> 32));
+            if (chunk == null) {
+                continue;
+            }
+            final int count = ((IMixinChunk) chunk).getCreatureCount(type);
+            if (count == 0) {
+                continue;
+            }
+            for (EntityPlayer player : entry.getValue()) {
+                this.playerMobCounts.addTo(player, count);
+            }
+        }
+        for (EntityPlayer player : this.trackedPlayerChunks.keySet()) {
+            if (this.playerMobCounts.getInt(player) < limit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addPlayerMob(long chunkKey) {
+        final List<EntityPlayer> players = this.playerRangeChunks.get(chunkKey);
+        if (players != null) {
+            for (EntityPlayer player : players) {
+                this.playerMobCounts.addTo(player, 1);
+            }
+        }
+    }
+
+    private boolean isBelowPlayerLimit(long chunkKey, int limit) {
+        final List<EntityPlayer> players = this.playerRangeChunks.get(chunkKey);
+        if (players != null) {
+            for (EntityPlayer player : players) {
+                if (this.playerMobCounts.getInt(player) < limit) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void addCount(Long2IntOpenHashMap counts, long key, int delta) {
+        if (counts.addTo(key, delta) + delta == 0) {
+            counts.remove(key);
+        }
+    }
+
+    private void clearTrackedPlayers() {
+        this.trackedPlayerChunks.clear();
+        this.playerRangeChunks.clear();
+        this.playerRangeInnerChunks.clear();
+        this.playerMobCounts.clear();
+    }
+
+    @Override
+    public long getSpawnAttempts() {
+        return this.spawnAttempts;
+    }
+
+    @Override
+    public long getSuccessfulSpawns() {
+        return this.successfulSpawns;
+    }
+
     private static BlockPos getRandomChunkPosition(World worldIn, Chunk chunk)
     {
         int i = chunk.x * 16 + worldIn.rand.nextInt(16);
@@ -390,6 +569,9 @@ private static boolean check(BlockPos pos, World world) {
         if (entityType == null) {
             return true; // Basically, we can't throw our own event.
         }
+        if (!ShouldFire.hasListeners(ConstructEntityEvent.Pre.class)) {
+            return true;
+        }
         Vector3d vector3d = new Vector3d(pos.getX(), pos.getY(), pos.getZ());
         Transform<org.spongepowered.api.world.World> transform = new Transform<>((org.spongepowered.api.world.World) world, vector3d);
         ConstructEntityEvent.Pre event = SpongeEventFactory.createConstructEntityEventPre(Cause.of(NamedCause.source(world)), entityType, transform);
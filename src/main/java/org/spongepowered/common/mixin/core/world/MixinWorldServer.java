@@ -34,12 +34,15 @@
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.BlockPistonBase;
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReportCategory;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.effect.EntityLightningBolt;
 import net.minecraft.entity.passive.EntitySkeletonHorse;
 import net.minecraft.entity.player.EntityPlayer;
@@ -70,6 +73,7 @@
 import net.minecraft.world.NextTickListEntry;
 import net.minecraft.world.Teleporter;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldEntitySpawner;
 import net.minecraft.world.WorldProvider;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.WorldSettings;
@@ -159,6 +163,8 @@
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.IPhaseState;
+import org.spongepowered.common.event.tracking.NeighborNotificationQueue;
+import org.spongepowered.common.event.tracking.ParallelTileEntityTicker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseData;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -178,6 +184,7 @@
 import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.interfaces.world.IMixinExplosion;
 import org.spongepowered.common.interfaces.world.IMixinServerWorldEventHandler;
+import org.spongepowered.common.interfaces.world.IMixinWorldEntitySpawner;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
@@ -202,6 +209,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -228,6 +236,9 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private static final EnumSet<EnumFacing> NOTIFY_DIRECTIONS = EnumSet.of(EnumFacing.WEST, EnumFacing.EAST, EnumFacing.DOWN, EnumFacing.UP, EnumFacing.NORTH, EnumFacing.SOUTH);
 
     private final Map<net.minecraft.entity.Entity, Vector3d> rotationUpdates = new HashMap<>();
+    private final Map<EnumCreatureType, Set<net.minecraft.entity.Entity>> creaturesByType = new EnumMap<>(EnumCreatureType.class);
+    private final NeighborNotificationQueue neighborNotificationQueue = new NeighborNotificationQueue(this);
+    private final List<net.minecraft.tileentity.TileEntity> parallelTileEntities = new ArrayList<>();
     private SpongeChunkGenerator spongegen;
     private SpongeConfig<?> activeConfig;
     protected long weatherStartTime;
@@ -245,6 +256,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
     @Shadow @Final private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
     @Shadow @Final private PlayerChunkMap playerChunkMap;
+    @Shadow @Final private WorldEntitySpawner entitySpawner;
     @Shadow @Final @Mutable private Teleporter worldTeleporter;
     @Shadow @Final private WorldServer.ServerBlockEventList[] blockEventQueue;
     @Shadow private int blockEventCacheIndex;
@@ -1287,6 +1299,10 @@ public void triggerInternalExplosion(org.spongepowered.api.world.explosion.Explo
      */
     @Override
     public boolean spawnEntity(net.minecraft.entity.Entity entity) {
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            ParallelTileEntityTicker.defer(() -> this.spawnEntity(entity));
+            return true;
+        }
         return canAddEntity(entity) && CauseTracker.getInstance().spawnEntity(this, EntityUtil.fromNative(entity));
     }
 
@@ -1300,6 +1316,11 @@ public boolean spawnEntity(net.minecraft.entity.Entity entity) {
      */
     @Override
     public boolean setBlockState(BlockPos pos, IBlockState newState, int flags) {
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            ParallelTileEntityTicker.defer(() -> this.setBlockState(immutablePos, newState, flags));
+            return true;
+        }
         if (!this.isValid(pos)) {
             return false;
         } else if (this.worldInfo.getTerrainType() == WorldType.DEBUG_ALL_BLOCK_STATES) { // isRemote is always false since this is WorldServer
@@ -1312,6 +1333,11 @@ public boolean setBlockState(BlockPos pos, IBlockState newState, int flags) {
 
     @Override
     public boolean setBlockState(BlockPos pos, IBlockState state, BlockChangeFlag flag) {
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            ParallelTileEntityTicker.defer(() -> this.setBlockState(immutablePos, state, flag));
+            return true;
+        }
         if (!this.isValid(pos)) {
             return false;
         } else if (this.worldInfo.getTerrainType() == WorldType.DEBUG_ALL_BLOCK_STATES) { // isRemote is always false since this is WorldServer
@@ -1352,7 +1378,21 @@ public void immediateBlockTick(BlockPos pos, IBlockState state, Random random) {
      */
     @Override
     public void neighborChanged(BlockPos pos, Block blockIn, BlockPos otherPos) { // notifyBlockOfStateChange
-        CauseTracker.getInstance().notifyBlockOfStateChange(this, pos, blockIn, otherPos);
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            final BlockPos immutableOtherPos = otherPos.toImmutable();
+            ParallelTileEntityTicker.defer(() -> this.neighborChanged(immutablePos, blockIn, immutableOtherPos));
+            return;
+        }
+        this.notifyNeighbor(pos, blockIn, otherPos);
+    }
+
+    private void notifyNeighbor(BlockPos notifyPos, Block sourceBlock, BlockPos sourcePos) {
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useNeighborNotificationQueue()) {
+            this.neighborNotificationQueue.notifyBlockOfStateChange(notifyPos, sourceBlock, sourcePos);
+        } else {
+            CauseTracker.getInstance().notifyBlockOfStateChange(this, notifyPos, sourceBlock, sourcePos);
+        }
     }
 
     /**
@@ -1362,6 +1402,11 @@ public void neighborChanged(BlockPos pos, Block blockIn, BlockPos otherPos) { //
      */
     @Override
     public void notifyNeighborsOfStateExcept(BlockPos pos, Block blockType, EnumFacing skipSide) {
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            ParallelTileEntityTicker.defer(() -> this.notifyNeighborsOfStateExcept(immutablePos, blockType, skipSide));
+            return;
+        }
         if (!isValid(pos)) {
             return;
         }
@@ -1370,7 +1415,6 @@ public void notifyNeighborsOfStateExcept(BlockPos pos, Block blockType, EnumFaci
         directions.remove(skipSide);
         final NotifyNeighborBlockEvent event = SpongeCommonEventFactory.callNotifyNeighborEvent(this, pos, directions);
         if (event == null || !event.isCancelled()) {
-            final CauseTracker causeTracker = CauseTracker.getInstance();
             for (EnumFacing facing : EnumFacing.values()) {
                 if (event != null) {
                     final Direction direction = DirectionFacingProvider.getInstance().getKey(facing).get();
@@ -1379,7 +1423,7 @@ public void notifyNeighborsOfStateExcept(BlockPos pos, Block blockType, EnumFaci
                     }
                 }
 
-                causeTracker.notifyBlockOfStateChange(this, pos.offset(facing), blockType, pos);
+                this.notifyNeighbor(pos.offset(facing), blockType, pos);
             }
         }
     }
@@ -1391,13 +1435,17 @@ public void notifyNeighborsOfStateExcept(BlockPos pos, Block blockType, EnumFaci
      */
     @Override
     public void notifyNeighborsOfStateChange(BlockPos pos, Block blockType, boolean updateObserverBlocks) {
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            final BlockPos immutablePos = pos.toImmutable();
+            ParallelTileEntityTicker.defer(() -> this.notifyNeighborsOfStateChange(immutablePos, blockType, updateObserverBlocks));
+            return;
+        }
         if (!isValid(pos)) {
             return;
         }
 
         final NotifyNeighborBlockEvent event = SpongeCommonEventFactory.callNotifyNeighborEvent(this, pos, NOTIFY_DIRECTIONS);
         if (event == null || !event.isCancelled()) {
-            final CauseTracker causeTracker = CauseTracker.getInstance();
             for (EnumFacing facing : EnumFacing.values()) {
                 if (event != null) {
                     final Direction direction = DirectionFacingProvider.getInstance().getKey(facing).get();
@@ -1406,7 +1454,7 @@ public void notifyNeighborsOfStateChange(BlockPos pos, Block blockType, boolean
                     }
                 }
 
-                causeTracker.notifyBlockOfStateChange(this, pos.offset(facing), blockType, pos);
+                this.notifyNeighbor(pos.offset(facing), blockType, pos);
             }
         }
 
@@ -1444,9 +1492,33 @@ private void updateTileEntity(ITickable tile) {
             return;
         }
 
+        final net.minecraft.tileentity.TileEntity tileEntity = (net.minecraft.tileentity.TileEntity) tile;
+        if (ParallelTileEntityTicker.canTickInParallel(tileEntity)) {
+            final IMixinChunk chunk = ((IMixinTileEntity) tileEntity).getActiveChunk();
+            // Same as TrackingUtil#tickTileEntity, don't tick TE's in chunks queued for unload
+            if (chunk != null && (!chunk.isQueuedForUnload() || chunk.isPersistedChunk())) {
+                this.parallelTileEntities.add(tileEntity);
+            }
+            return;
+        }
+
         TrackingUtil.tickTileEntity(this, tile);
     }
 
+    @Override
+    protected void tickParallelTileEntities() {
+        if (this.parallelTileEntities.isEmpty()) {
+            return;
+        }
+        this.timings.tileEntityParallelTick.startTiming();
+        try {
+            ParallelTileEntityTicker.tick(this, this.parallelTileEntities);
+        } finally {
+            this.parallelTileEntities.clear();
+            this.timings.tileEntityParallelTick.stopTiming();
+        }
+    }
+
     @Override
     protected void onCallEntityUpdate(net.minecraft.entity.Entity entity) {
         final CauseTracker causeTracker = CauseTracker.getInstance();
@@ -1519,6 +1591,48 @@ public void updateRotation(net.minecraft.entity.Entity entityIn) {
         this.rotationUpdates.remove(entityIn);
     }
 
+    @Inject(method = "onEntityAdded", at = @At("RETURN"))
+    private void onAddCreature(net.minecraft.entity.Entity entityIn, CallbackInfo ci) {
+        for (EnumCreatureType type : EnumCreatureType.values()) {
+            if (SpongeImplHooks.isCreatureOfType(entityIn, type)) {
+                this.creaturesByType.computeIfAbsent(type, k -> new ReferenceOpenHashSet<>()).add(entityIn);
+            }
+        }
+    }
+
+    @Inject(method = "onEntityRemoved", at = @At("RETURN"))
+    private void onRemoveCreature(net.minecraft.entity.Entity entityIn, CallbackInfo ci) {
+        for (Set<net.minecraft.entity.Entity> creatures : this.creaturesByType.values()) {
+            creatures.remove(entityIn);
+        }
+    }
+
+    @Override
+    public IMixinWorldEntitySpawner getEntitySpawner() {
+        return (IMixinWorldEntitySpawner) this.entitySpawner;
+    }
+
+    @Override
+    public NeighborNotificationQueue getNeighborNotificationQueue() {
+        return this.neighborNotificationQueue;
+    }
+
+    @Override
+    public int countCreatures(EnumCreatureType type) {
+        final Set<net.minecraft.entity.Entity> creatures = this.creaturesByType.get(type);
+        if (creatures == null) {
+            return 0;
+        }
+        // Matches World#countEntities, which skips entities that will never despawn
+        int count = 0;
+        for (net.minecraft.entity.Entity entity : creatures) {
+            if (!(entity instanceof EntityLiving) || !((EntityLiving) entity).isNoDespawnRequired()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Override
     public void onSpongeEntityAdded(net.minecraft.entity.Entity entity) {
         this.onEntityAdded(entity);
@@ -1580,6 +1694,8 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
                 .extendedState((BlockState) extended)
                 .worldId(this.getUniqueId())
                 .position(VecHelper.toVector3i(pos));
+        // The creator, notifier and tile entity data are read right away instead of lazily. The original
+        // snapshot restores cancelled changes, and the tracking data and tile entity change after the capture.
         Optional<UUID> creator = getCreator(pos.getX(), pos.getY(), pos.getZ());
         Optional<UUID> notifier = getNotifier(pos.getX(), pos.getY(), pos.getZ());
         if (creator.isPresent()) {
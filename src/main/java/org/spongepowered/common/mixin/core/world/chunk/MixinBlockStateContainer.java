@@ -26,20 +26,53 @@
 
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.BitArray;
 import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.IBlockStatePalette;
 import net.minecraft.world.chunk.NibbleArray;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.common.interfaces.world.IMixinBlockStateContainer;
+
+import java.util.Arrays;
 
 import javax.annotation.Nullable;
 
 @Mixin(BlockStateContainer.class)
-public abstract class MixinBlockStateContainer {
+public abstract class MixinBlockStateContainer implements IMixinBlockStateContainer {
+
+    @Shadow protected BitArray storage;
+    @Shadow protected IBlockStatePalette palette;
+    @Shadow private int bits;
 
     @Shadow protected abstract void set(int index, IBlockState state);
 
+    @Override
+    public void copyStateIds(char[] ids) {
+        final BitArray storage = this.storage;
+        if (this.bits > 8) {
+            // The registry based palette is used, so the packed values already are the global ids
+            for (int i = 0; i < 4096; i++) {
+                ids[i] = (char) storage.getAt(i);
+            }
+            return;
+        }
+        final int[] translation = new int[1 << this.bits];
+        Arrays.fill(translation, -1);
+        for (int i = 0; i < 4096; i++) {
+            final int key = storage.getAt(i);
+            int id = translation[key];
+            if (id == -1) {
+                final IBlockState state = this.palette.getBlockState(key);
+                id = state == null ? 0 : Block.BLOCK_STATE_IDS.get(state);
+                translation[key] = id;
+            }
+            ids[i] = (char) id;
+        }
+    }
+
     /**
      * @author barteks2x
      *
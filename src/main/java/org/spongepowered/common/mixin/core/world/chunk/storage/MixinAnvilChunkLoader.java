@@ -29,9 +29,12 @@
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -68,12 +71,22 @@
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.ChunkPreloader;
+import org.spongepowered.common.world.storage.PrefetchedChunk;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
@@ -81,6 +94,12 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
     private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
     private final Object lock = new Object();
+    private final Map<ChunkPos, PrefetchedChunk> prefetchedChunks = new ConcurrentHashMap<>();
+    // The finished prefetches, oldest first
+    private final Queue<PrefetchedChunk> prefetchOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean prefetchPurgeScheduled = new AtomicBoolean();
+    private final AtomicLong prefetchCount = new AtomicLong();
+    private final AtomicLong prefetchHits = new AtomicLong();
 
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
@@ -88,10 +107,31 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToRemove;
     @Shadow @Final private File chunkSaveLocation;
+    @Shadow @Final private DataFixer fixer;
     @Shadow private boolean flushing;
 
     @Shadow
     public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Shadow @Nullable
+    protected abstract net.minecraft.world.chunk.Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
+
+    @Inject(method = "loadChunk", at = @At("HEAD"), cancellable = true)
+    private void onLoadChunk(World worldIn, int x, int z, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> cir) {
+        if (this.prefetchedChunks.isEmpty()) {
+            return;
+        }
+        final ChunkPos pos = new ChunkPos(x, z);
+        final PrefetchedChunk prefetched = this.prefetchedChunks.remove(pos);
+        // A pending save is always newer than the prefetched data
+        if (prefetched == null || this.chunksToRemove.containsKey(pos)) {
+            return;
+        }
+        final NBTTagCompound compound = prefetched.getCompound();
+        if (compound != null) {
+            this.prefetchHits.incrementAndGet();
+            cir.setReturnValue(this.checkedReadChunkFromNBT(worldIn, x, z, this.fixer.process(FixTypes.CHUNK, compound)));
+        }
+    }
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
@@ -219,7 +259,8 @@ private static Entity onReadChunkEntity(NBTTagCompound compound, World world, Ch
         }
         // Sponge end
 
-        return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
+        // Only look at the region header instead of reading and inflating the chunk
+        return this.chunkExistsInRegion(x, z);
     }
 
     /**
@@ -234,6 +275,8 @@ protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
         synchronized (this.lock) {
             this.chunksToRemove.put(pos, compound);
         }
+        // Sponge - Anything read from the region file before this save is now out of date
+        this.prefetchedChunks.remove(pos);
         this.queue.add(new QueuedChunk(pos, compound));
 
         ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
@@ -301,6 +344,82 @@ public boolean writeNextIO() {
         }
     }
 
+    @Override
+    public boolean chunkExistsInRegion(int x, int z) {
+        if (this.chunksToRemove.containsKey(new ChunkPos(x, z))) {
+            return true;
+        }
+        final File regionFile = new File(new File(this.chunkSaveLocation, "region"), "r." + (x >> 5) + "." + (z >> 5) + ".mca");
+        // Don't let the region cache create empty region files for chunks that don't exist
+        return regionFile.exists() && RegionFileCache.createOrLoadRegionFile(this.chunkSaveLocation, x, z).isChunkSaved(x & 31, z & 31);
+    }
+
+    @Override
+    public void prefetchChunk(int x, int z) {
+        final ChunkPos pos = new ChunkPos(x, z);
+        final PrefetchedChunk prefetched = new PrefetchedChunk(pos);
+        // Registered before reading, so a save queued while reading discards the entry
+        if (this.prefetchedChunks.putIfAbsent(pos, prefetched) != null) {
+            return;
+        }
+        if (this.chunksToRemove.containsKey(pos) || !this.chunkExistsInRegion(x, z)) {
+            this.prefetchedChunks.remove(pos, prefetched);
+            return;
+        }
+        try (DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z)) {
+            if (stream == null) {
+                this.prefetchedChunks.remove(pos, prefetched);
+                return;
+            }
+            prefetched.setCompound(CompressedStreamTools.read(stream));
+            this.prefetchCount.incrementAndGet();
+        } catch (IOException e) {
+            this.prefetchedChunks.remove(pos, prefetched);
+            return;
+        }
+        this.prefetchOrder.add(prefetched);
+        // Evict the oldest prefetches, the queue may still hold prefetches that were already used
+        while (this.prefetchedChunks.size() > PrefetchedChunk.MAX_RETAINED) {
+            final PrefetchedChunk oldest = this.prefetchOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            this.prefetchedChunks.remove(oldest.getPos(), oldest);
+        }
+        if (this.prefetchPurgeScheduled.compareAndSet(false, true)) {
+            ChunkPreloader.schedulePurge(this::purgeExpiredPrefetches);
+        }
+    }
+
+    /**
+     * Drops the prefetches that have expired. Runs periodically on the
+     * preloader threads for as long as prefetches are retained.
+     */
+    private void purgeExpiredPrefetches() {
+        final long now = System.nanoTime();
+        PrefetchedChunk oldest;
+        while ((oldest = this.prefetchOrder.peek()) != null && oldest.isExpired(now)) {
+            if (this.prefetchOrder.remove(oldest)) {
+                this.prefetchedChunks.remove(oldest.getPos(), oldest);
+            }
+        }
+        this.prefetchPurgeScheduled.set(false);
+        // Checked after clearing the flag, so a prefetch finishing meanwhile can't be left without a purge
+        if (!this.prefetchOrder.isEmpty() && this.prefetchPurgeScheduled.compareAndSet(false, true)) {
+            ChunkPreloader.schedulePurge(this::purgeExpiredPrefetches);
+        }
+    }
+
+    @Override
+    public long getPrefetchCount() {
+        return this.prefetchCount.get();
+    }
+
+    @Override
+    public long getPrefetchHits() {
+        return this.prefetchHits.get();
+    }
+
     @Override
     public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
@@ -0,0 +1,120 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.world.storage.WorldStorageUtil;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import javax.annotation.Nullable;
+
+@Mixin(RegionFile.class)
+public abstract class MixinRegionFile {
+
+    // The offset and timestamp tables
+    private static final int HEADER_SIZE = 8192;
+
+    @Shadow @Final private File fileName;
+
+    @Shadow protected abstract void write(int x, int z, byte[] data, int length);
+
+    @Nullable private IntBuffer header;
+    private boolean closed;
+
+    /**
+     * Reads the whole header at once, instead of reading each of the 2048
+     * header entries with a separate {@link RandomAccessFile#readInt()},
+     * which reads the file byte by byte.
+     */
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Ljava/io/RandomAccessFile;readInt()I", remap = false))
+    private int onReadHeaderEntry(RandomAccessFile dataFile) throws IOException {
+        if (this.header == null) {
+            final byte[] bytes = new byte[HEADER_SIZE];
+            int length = 0;
+            int read;
+            while (length < bytes.length && (read = dataFile.read(bytes, length, bytes.length - length)) != -1) {
+                length += read;
+            }
+            this.header = ByteBuffer.wrap(bytes, 0, length).asIntBuffer();
+        }
+        if (!this.header.hasRemaining()) {
+            throw new EOFException();
+        }
+        return this.header.get();
+    }
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void onConstructed(CallbackInfo ci) {
+        this.header = null;
+    }
+
+    @Inject(method = "close", at = @At("RETURN"))
+    private void onClose(CallbackInfo ci) {
+        this.closed = true;
+    }
+
+    /**
+     * A region file may be evicted from the cache, and so closed, while a
+     * chunk buffer obtained from it is still being filled. The buffer writes
+     * the chunk once it is closed, so the write is handed to the region file
+     * now in the cache instead of failing on the closed file. Its header is
+     * up to date, unlike the one of this region file.
+     */
+    @Inject(method = "write(II[BI)V", at = @At("HEAD"), cancellable = true)
+    private void onWrite(int x, int z, byte[] data, int length, CallbackInfo ci) {
+        if (this.closed) {
+            ((MixinRegionFile) (Object) WorldStorageUtil.getRegionFile(this.fileName)).write(x, z, data, length);
+            ci.cancel();
+        }
+    }
+
+    /**
+     * A region file may also be evicted between being looked up and being
+     * read from. Reading the closed file would fail, which is reported as a
+     * missing chunk, so the read is handed to the region file now in the
+     * cache as well.
+     */
+    @Inject(method = "getChunkDataInputStream", at = @At("HEAD"), cancellable = true)
+    private void onGetChunkDataInputStream(int x, int z, CallbackInfoReturnable<DataInputStream> cir) {
+        if (this.closed) {
+            cir.setReturnValue(WorldStorageUtil.getRegionFile(this.fileName).getChunkDataInputStream(x, z));
+        }
+    }
+}
@@ -54,6 +54,7 @@
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.IPhaseState;
+import org.spongepowered.common.event.tracking.ParallelTileEntityTicker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.TrackingPhases;
 import org.spongepowered.common.event.tracking.phase.entity.EntityPhase;
@@ -167,6 +168,11 @@ private Chunk loadChunkForce(int x, int z) {
 
     @Redirect(method = "provideChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
     public Chunk onProvideChunkHead(ChunkProviderServer chunkProviderServer, int x, int z) {
+        if (ParallelTileEntityTicker.isDeferringChanges()) {
+            // Never load or generate chunks for a tile entity ticked in parallel, like any other request off the main thread
+            final Chunk chunk = this.getLoadedChunkWithoutMarkingActive(x, z);
+            return chunk == null ? this.EMPTY_CHUNK : chunk;
+        }
         if (!this.denyChunkRequests) {
             return this.loadChunk(x, z);
         }
@@ -46,6 +46,7 @@
 import org.spongepowered.common.interfaces.IMixinSaveHandler;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.storage.PrefetchedPlayerData;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 
 import java.io.File;
@@ -57,8 +58,10 @@
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -168,6 +171,7 @@ private void saveDimensionAndOtherData(SaveHandler handler, WorldInfo info, NBTT
 
     // player join stuff
     @Nullable private Path file;
+    private final Map<Path, PrefetchedPlayerData> prefetchedPlayerData = new ConcurrentHashMap<>();
 
     /**
      * Redirects the {@link File#exists()} checking that if the file exists, grab
@@ -194,8 +198,14 @@ private boolean grabfile(File localfile) {
      */
     @Redirect(method = READ_PLAYER_DATA, at = @At(value = "INVOKE", target = COMPRESSED_READ_FILE))
     private NBTTagCompound spongeReadPlayerData(InputStream inputStream) throws IOException {
-        Instant creation = this.file == null ? Instant.now() : Files.readAttributes(this.file, BasicFileAttributes.class).creationTime().toInstant();
-        NBTTagCompound compound = CompressedStreamTools.readCompressed(inputStream);
+        @Nullable final BasicFileAttributes attributes = this.file == null ? null : Files.readAttributes(this.file, BasicFileAttributes.class);
+        Instant creation = attributes == null ? Instant.now() : attributes.creationTime().toInstant();
+        NBTTagCompound compound = attributes == null ? null : this.takePrefetchedPlayerData(this.file, attributes);
+        if (compound == null) {
+            compound = CompressedStreamTools.readCompressed(inputStream);
+        } else {
+            inputStream.close();
+        }
         Instant lastPlayed = Instant.now();
         // first try to migrate bukkit join data stuff
         if (compound.hasKey(NbtDataUtil.BUKKIT, NbtDataUtil.TAG_COMPOUND)) {
@@ -224,9 +234,54 @@ private NBTTagCompound spongeReadPlayerData(InputStream inputStream) throws IOEx
 
     @Inject(method = "writePlayerData", at = @At(value = "INVOKE", target = COMPRESSED_WRITE_FILE, shift = At.Shift.AFTER))
     private void onSpongeWrite(EntityPlayer player, CallbackInfo callbackInfo) {
+        this.discardPrefetchedPlayerData(player.getUniqueID());
         SpongePlayerDataHandler.savePlayer(player.getUniqueID());
     }
 
+    @Override
+    @Nullable
+    public NBTTagCompound prefetchPlayerData(UUID uniqueId) {
+        final long now = System.nanoTime();
+        // Players that never finished logging in leave their data behind
+        this.prefetchedPlayerData.values().removeIf(data -> data.isExpired(now));
+
+        final Path path = this.getPlayerDataPath(uniqueId);
+        try {
+            if (!Files.isRegularFile(path)) {
+                return null;
+            }
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            final NBTTagCompound compound;
+            try (InputStream stream = Files.newInputStream(path)) {
+                compound = CompressedStreamTools.readCompressed(stream);
+            }
+            // The cached copy is handed to the main thread, which modifies it while reading the player
+            this.prefetchedPlayerData.put(path, new PrefetchedPlayerData(compound.copy(), attributes));
+            return compound;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void discardPrefetchedPlayerData(UUID uniqueId) {
+        this.prefetchedPlayerData.remove(this.getPlayerDataPath(uniqueId));
+    }
+
+    @Nullable
+    private NBTTagCompound takePrefetchedPlayerData(Path path, BasicFileAttributes attributes) {
+        final PrefetchedPlayerData data = this.prefetchedPlayerData.remove(path);
+        // Only use the prefetched data if the file hasn't been written to since
+        if (data == null || !data.isUnchanged(attributes)) {
+            return null;
+        }
+        return data.getCompound();
+    }
+
+    private Path getPlayerDataPath(UUID uniqueId) {
+        return new File(((SaveHandler) (Object) this).playersDirectory, uniqueId + ".dat").toPath();
+    }
+
     // SF overrides getWorldDirectory for mod compatibility.
     // In order to avoid conflicts, we simply use another method to guarantee
     // the sponge world directory is returned for the corresponding save handler.
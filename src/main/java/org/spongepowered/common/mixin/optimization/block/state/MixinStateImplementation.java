@@ -26,6 +26,9 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableTable;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.state.BlockStateBase;
@@ -35,6 +38,14 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 @Mixin(BlockStateContainer.StateImplementation.class)
 public abstract class MixinStateImplementation extends BlockStateBase {
@@ -43,6 +54,95 @@ public abstract class MixinStateImplementation extends BlockStateBase {
     @Shadow @Final private ImmutableMap<IProperty<?>, Comparable<?>> properties;
     @Shadow private ImmutableTable<IProperty<?>, Comparable<?>, IBlockState> propertyValueTable;
 
+    // The index of every property of the block and, for non enum properties, of
+    // every allowed value. Shared by all states of the block.
+    @Nullable private Reference2IntOpenHashMap<IProperty<?>> propertyIndices;
+    @Nullable private Object2IntOpenHashMap<Comparable<?>>[] valueIndices;
+    // The values and the transition table of this state, indexed by property index and
+    // value index. Enum values are indexed by their ordinal.
+    @Nullable private Comparable<?>[] tableValues;
+    @Nullable private IBlockState[][] transitions;
+
+    @SuppressWarnings("unchecked")
+    @Inject(method = "buildPropertyValueTable", at = @At("RETURN"))
+    private void onBuildPropertyValueTable(Map<Map<IProperty<?>, Comparable<?>>, BlockStateContainer.StateImplementation> map,
+            CallbackInfo callbackInfo) {
+        final MixinStateImplementation first = (MixinStateImplementation) (Object) map.values().iterator().next();
+        if (first.propertyIndices == null) {
+            final Reference2IntOpenHashMap<IProperty<?>> propertyIndices = new Reference2IntOpenHashMap<>(this.properties.size());
+            propertyIndices.defaultReturnValue(-1);
+            final Object2IntOpenHashMap<Comparable<?>>[] valueIndices = new Object2IntOpenHashMap[this.properties.size()];
+            int index = 0;
+            for (IProperty<?> property : this.properties.keySet()) {
+                propertyIndices.put(property, index);
+                if (!property.getValueClass().isEnum()) {
+                    final Object2IntOpenHashMap<Comparable<?>> values = new Object2IntOpenHashMap<>(property.getAllowedValues().size());
+                    values.defaultReturnValue(-1);
+                    for (Comparable<?> value : property.getAllowedValues()) {
+                        values.put(value, values.size());
+                    }
+                    valueIndices[index] = values;
+                }
+                index++;
+            }
+            first.propertyIndices = propertyIndices;
+            first.valueIndices = valueIndices;
+        }
+        this.propertyIndices = first.propertyIndices;
+        this.valueIndices = first.valueIndices;
+
+        final Comparable<?>[] values = new Comparable<?>[this.properties.size()];
+        final IBlockState[][] transitions = new IBlockState[this.properties.size()][];
+        for (Map.Entry<IProperty<?>, Comparable<?>> entry : this.properties.entrySet()) {
+            final IProperty<?> property = entry.getKey();
+            final Comparable<?> current = entry.getValue();
+            final int index = this.propertyIndices.getInt(property);
+            final Object2IntOpenHashMap<Comparable<?>> valueIndices = this.valueIndices[index];
+            final IBlockState[] row = new IBlockState[valueIndices == null
+                    ? property.getValueClass().getEnumConstants().length : valueIndices.size()];
+            for (Comparable<?> value : property.getAllowedValues()) {
+                final IBlockState state = value.equals(current) ? this : this.propertyValueTable.get(property, value);
+                row[valueIndices == null ? ((Enum<?>) value).ordinal() : valueIndices.getInt(value)] = state;
+            }
+            values[index] = current;
+            transitions[index] = row;
+        }
+        this.tableValues = values;
+        this.transitions = transitions;
+    }
+
+    private int getPropertyIndex(IProperty<?> property) {
+        final int index = this.propertyIndices.getInt(property);
+        if (index >= 0) {
+            return index;
+        }
+        // Some mods create equal, but not identical, property instances
+        for (Reference2IntMap.Entry<IProperty<?>> entry : this.propertyIndices.reference2IntEntrySet()) {
+            if (entry.getKey().equals(property)) {
+                return entry.getIntValue();
+            }
+        }
+        return -1;
+    }
+
+    @Nullable
+    private IBlockState getTransition(int propertyIndex, IProperty<?> property, Object value) {
+        final Object2IntOpenHashMap<Comparable<?>> valueIndices = this.valueIndices[propertyIndex];
+        final int valueIndex;
+        if (valueIndices == null) {
+            if (!property.getValueClass().isInstance(value)) {
+                return null;
+            }
+            valueIndex = ((Enum<?>) value).ordinal();
+        } else {
+            valueIndex = valueIndices.getInt(value);
+            if (valueIndex < 0) {
+                return null;
+            }
+        }
+        return this.transitions[propertyIndex][valueIndex];
+    }
+
     /**
      * @author gabizou - April 8th, 2016
      *
@@ -68,6 +168,22 @@ public abstract class MixinStateImplementation extends BlockStateBase {
     @Final
     @Override
     public <T extends Comparable<T>, V extends T> IBlockState withProperty(IProperty<T> property, V value) {
+        // Sponge start - use the precomputed transition table if this state has one
+        if (this.transitions != null) {
+            final int index = getPropertyIndex(property);
+            if (index < 0) {
+                throw new IllegalArgumentException("Cannot set property " + property + " as it does not exist in " + this.block.getBlockState());
+            }
+            if (this.tableValues[index] == value) {
+                return this;
+            }
+            final IBlockState blockState = getTransition(index, property, value);
+            if (blockState == null) {
+                throw new IllegalArgumentException("No mapping found for the blockstate: " + Block.REGISTRY.getNameForObject(this.block) + " of property: " + property.getName() + " and value: " + value);
+            }
+            return blockState;
+        }
+        // Sponge end
         // Sponge - eliminate the hash lookups and validation lookups
         if (this.properties.get(property) == value) {
             return this;
@@ -79,4 +195,14 @@ public <T extends Comparable<T>, V extends T> IBlockState withProperty(IProperty
         return blockState;
     }
 
+    @Redirect(method = "getValue", at = @At(value = "INVOKE", target = "Lcom/google/common/collect/ImmutableMap;get(Ljava/lang/Object;)Ljava/lang/Object;", remap = false))
+    private Object onGetValue(ImmutableMap<IProperty<?>, Comparable<?>> properties, Object property) {
+        // Read the value from the table of this state instead of doing a hash lookup in the property map
+        if (this.transitions == null) {
+            return properties.get(property);
+        }
+        final int index = getPropertyIndex((IProperty<?>) property);
+        return index < 0 ? null : this.tableValues[index];
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.tileentity;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.tileentity.IHopper;
+import net.minecraft.tileentity.TileEntityHopper;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntityHopper;
+import org.spongepowered.common.item.inventory.util.HopperInventoryCache;
+
+import javax.annotation.Nullable;
+
+@Mixin(TileEntityHopper.class)
+public abstract class MixinTileEntityHopper_Cached_Targets implements IMixinTileEntityHopper {
+
+    private final HopperInventoryCache sourceCache = new HopperInventoryCache();
+    private final HopperInventoryCache targetCache = new HopperInventoryCache();
+
+    @Shadow public static IInventory getSourceInventory(IHopper hopper) {
+        return null; // Shadowed
+    }
+
+    @Shadow private static boolean isInventoryEmpty(IInventory inventoryIn, EnumFacing side) {
+        return false; // Shadowed
+    }
+
+    @Shadow private boolean isInventoryFull(IInventory inventoryIn, EnumFacing side) {
+        return false; // Shadowed
+    }
+
+    @Redirect(method = "getInventoryForHopperTransfer", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getInventoryAtPosition(Lnet/minecraft/world/World;DDD)Lnet/minecraft/inventory/IInventory;"))
+    private IInventory onGetTargetInventory(World world, double x, double y, double z) {
+        return this.targetCache.getInventory(world, new BlockPos(x, y, z));
+    }
+
+    @Redirect(method = "transferItemsOut", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;isInventoryFull(Lnet/minecraft/inventory/IInventory;Lnet/minecraft/util/EnumFacing;)Z"))
+    private boolean onIsTargetFull(TileEntityHopper hopper, IInventory inventory, EnumFacing side) {
+        // A target stays full until it changes, so don't scan all of its slots every tick
+        if (this.targetCache.isKnown(inventory)) {
+            return true;
+        }
+        final boolean full = this.isInventoryFull(inventory, side);
+        if (full) {
+            this.targetCache.setKnown(inventory);
+        }
+        return full;
+    }
+
+    @Inject(method = "pullItems", at = @At("HEAD"), cancellable = true)
+    private static void onPullItems(IHopper hopper, CallbackInfoReturnable<Boolean> cir) {
+        if (hopper instanceof IMixinTileEntityHopper && ((IMixinTileEntityHopper) hopper).isSourceKnownEmpty()) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Redirect(method = "pullItems", at = @At(value = "INVOKE", target = "Lnet/minecraft/tileentity/TileEntityHopper;getSourceInventory(Lnet/minecraft/tileentity/IHopper;)Lnet/minecraft/inventory/IInventory;"))
+    private static IInventory onGetSourceInventory(IHopper hopper) {
+        if (hopper instanceof IMixinTileEntityHopper) {
+            return ((IMixinTileEntityHopper) hopper).getCachedSourceInventory();
+        }
+        return getSourceInventory(hopper);
+    }
+
+    @Nullable
+    @Override
+    public IInventory getCachedSourceInventory() {
+        final TileEntityHopper hopper = (TileEntityHopper) (Object) this;
+        return this.sourceCache.getInventory(hopper.getWorld(), hopper.getPos().up());
+    }
+
+    @Override
+    public boolean isSourceKnownEmpty() {
+        final TileEntityHopper hopper = (TileEntityHopper) (Object) this;
+        // Only tile entities are remembered, entities with an inventory are looked up by vanilla
+        final IInventory source = this.sourceCache.getTileInventory(hopper.getWorld(), hopper.getPos().up());
+        if (source == null) {
+            return false;
+        }
+        if (this.sourceCache.isKnown(source)) {
+            return true;
+        }
+        if (isInventoryEmpty(source, EnumFacing.DOWN)) {
+            this.sourceCache.setKnown(source);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void invalidateTransferTargets() {
+        this.sourceCache.invalidate();
+        this.targetCache.invalidate();
+    }
+}
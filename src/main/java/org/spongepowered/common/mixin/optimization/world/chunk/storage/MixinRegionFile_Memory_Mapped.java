@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+@Mixin(RegionFile.class)
+public abstract class MixinRegionFile_Memory_Mapped {
+
+    private static final int SECTOR_SIZE = 4096;
+
+    @Shadow private RandomAccessFile dataFile;
+    @Shadow @Final private List<Boolean> sectorFree;
+
+    @Shadow protected abstract boolean outOfBounds(int x, int z);
+    @Shadow protected abstract int getOffset(int x, int z);
+
+    @Nullable private MappedByteBuffer mappedFile;
+
+    /**
+     * Reads the chunk from a read only mapping of the region file, so reading
+     * a chunk is a copy out of the page cache instead of a seek and several
+     * reads on the file. The checks are the same as in vanilla. Writes still go
+     * through the file, the mapping shares its pages and is only renewed when
+     * the file grew past it.
+     *
+     * <p>The method is synchronized, just like writing a chunk.</p>
+     */
+    @Inject(method = "getChunkDataInputStream", at = @At("HEAD"), cancellable = true)
+    private void onGetChunkDataInputStream(int x, int z, CallbackInfoReturnable<DataInputStream> cir) {
+        if (this.outOfBounds(x, z)) {
+            cir.setReturnValue(null);
+            return;
+        }
+        final int offset = this.getOffset(x, z);
+        if (offset == 0) {
+            cir.setReturnValue(null);
+            return;
+        }
+        final int sector = offset >> 8;
+        final int sectorCount = offset & 255;
+        if (sector + sectorCount > this.sectorFree.size()) {
+            cir.setReturnValue(null);
+            return;
+        }
+        final long position = (long) sector * SECTOR_SIZE;
+        ByteBuffer buffer;
+        final int length;
+        try {
+            buffer = this.getMappedFile(position + 5);
+            if (buffer == null) {
+                return;
+            }
+            buffer.position((int) position);
+            length = buffer.getInt();
+            if (length > SECTOR_SIZE * sectorCount || length <= 0) {
+                cir.setReturnValue(null);
+                return;
+            }
+            if (buffer.remaining() < length) {
+                // The chunk was written past the end of the current mapping
+                buffer = this.getMappedFile(position + 4 + length);
+                if (buffer == null) {
+                    return;
+                }
+                buffer.position((int) position + 4);
+            }
+        } catch (IOException e) {
+            // Let vanilla read the file instead
+            return;
+        }
+        final byte type = buffer.get();
+        final byte[] data = new byte[length - 1];
+        buffer.get(data);
+        try {
+            if (type == 1) {
+                cir.setReturnValue(new DataInputStream(new BufferedInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))));
+            } else if (type == 2) {
+                cir.setReturnValue(new DataInputStream(new BufferedInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))));
+            } else {
+                cir.setReturnValue(null);
+            }
+        } catch (IOException e) {
+            cir.setReturnValue(null);
+        }
+    }
+
+    @Nullable
+    private ByteBuffer getMappedFile(long minLength) throws IOException {
+        if (this.mappedFile == null || this.mappedFile.capacity() < minLength) {
+            final long length = this.dataFile.length();
+            if (length < minLength || length > Integer.MAX_VALUE) {
+                return null;
+            }
+            this.mappedFile = this.dataFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+        return this.mappedFile.duplicate();
+    }
+
+    @Inject(method = "close", at = @At("HEAD"))
+    private void onClose(CallbackInfo ci) {
+        // The mapping is released once it is collected
+        this.mappedFile = null;
+    }
+}
@@ -91,12 +91,20 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     (module) -> true) // TODO the velocity changes need to be sent to the client
             .put("org.spongepowered.common.mixin.optimization.MixinSpongeImplHooks_Explosion",
                     (module) -> true)
+            .put("org.spongepowered.common.mixin.optimization.block.MixinBlockHopper_Cached_Targets",
+                    OptimizationCategory::useHopperTransferCaching)
+            .put("org.spongepowered.common.mixin.optimization.block.state.MixinStateImplementation",
+                    OptimizationCategory::useBlockStateTransitionTables)
             .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTameable_Cached_Owner",
                     OptimizationCategory::useCacheTameableOwners)
+            .put("org.spongepowered.common.mixin.optimization.tileentity.MixinTileEntityHopper_Cached_Targets",
+                    OptimizationCategory::useHopperTransferCaching)
             .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
             .put("org.spongepowered.common.mixin.optimization.world.MixinWorldServer_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
+            .put("org.spongepowered.common.mixin.optimization.world.chunk.storage.MixinRegionFile_Memory_Mapped",
+                    OptimizationCategory::useMmapRegionFiles)
             .put("org.spongepowered.common.mixin.optimization.world.gen.MixinChunkProviderServer_Async_Lighting",
                     OptimizationCategory::useAsyncLighting)
             .put("org.spongepowered.common.mixin.optimization.world.gen.structure.MixinMapGenStructure_Structure_Saving",
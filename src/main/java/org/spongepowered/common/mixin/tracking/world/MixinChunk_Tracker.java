@@ -248,6 +248,50 @@ public Optional<User> getBlockNotifier(BlockPos pos) {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
+        return this.getTrackedUniqueId(pos, PlayerTracker.Type.OWNER);
+    }
+
+    @Override
+    public Optional<UUID> getBlockNotifierUUID(BlockPos pos) {
+        return this.getTrackedUniqueId(pos, PlayerTracker.Type.NOTIFIER);
+    }
+
+    private Optional<UUID> getTrackedUniqueId(BlockPos pos, PlayerTracker.Type type) {
+        final int intKey = blockPosToInt(pos);
+        PlayerTracker tracker = this.trackedIntBlockPositions.get(intKey);
+        final boolean intTracked = tracker != null;
+        if (tracker == null) {
+            tracker = this.trackedShortBlockPositions.get(blockPosToShort(pos));
+            if (tracker == null) {
+                return Optional.empty();
+            }
+        }
+        final int index = type == PlayerTracker.Type.OWNER ? tracker.ownerIndex : tracker.notifierIndex;
+        final UUID uuid = ((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(index).orElse(null);
+        if (uuid == null) {
+            return Optional.empty();
+        }
+        if (this.world.getPlayerEntityByUUID(uuid) != null) {
+            return Optional.of(uuid);
+        }
+        if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(uuid)) {
+            if (intTracked) {
+                this.trackedIntBlockPositions.remove(intKey);
+            } else {
+                this.trackedShortBlockPositions.remove(blockPosToShort(pos));
+            }
+            return Optional.empty();
+        }
+        // Like getUserFromId, only ids of users with a known profile are returned, but without creating the user
+        if (SpongeUsernameCache.getLastKnownUsername(uuid) != null || this.spongeProfileManager.getCache().getById(uuid).isPresent()) {
+            return Optional.of(uuid);
+        }
+        this.spongeProfileManager.lookupUserAsync(uuid);
+        return Optional.empty();
+    }
+
     private Optional<User> getUserFromId(UUID uuid) {
         // check username cache
         String username = SpongeUsernameCache.getLastKnownUsername(uuid);
@@ -38,6 +38,7 @@
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 public class SpongeUserStorageService implements UserStorageService {
@@ -66,6 +67,31 @@ public Optional<User> get(GameProfile profile) {
         return Optional.ofNullable(UserDiscoverer.findByProfile(profile));
     }
 
+    /**
+     * Gets the data of a {@link User} without blocking the calling thread on
+     * disk access. Stored player data is read on a dedicated IO thread and
+     * the future completes on the server thread.
+     *
+     * @param uniqueId The UUID of the user
+     * @return A future completing with the user, if found
+     */
+    public CompletableFuture<Optional<User>> getAsync(UUID uniqueId) {
+        return Sponge.getServer().getGameProfileManager().get(checkNotNull(uniqueId, "uniqueId"))
+                .thenCompose(this::getAsync);
+    }
+
+    /**
+     * Gets the data of a {@link User} without blocking the calling thread on
+     * disk access.
+     *
+     * @param profile The profile of the user
+     * @return A future completing with the user, if found
+     * @see #getAsync(UUID)
+     */
+    public CompletableFuture<Optional<User>> getAsync(GameProfile profile) {
+        return UserDiscoverer.findByProfileAsync(checkNotNull(profile, "profile")).thenApply(Optional::ofNullable);
+    }
+
     @Override
     public User getOrCreate(GameProfile profile) {
         if (profile.getUniqueId() == null) {
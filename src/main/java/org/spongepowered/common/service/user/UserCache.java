@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.common.entity.player.SpongeUser;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches discovered users, weighed by the size of their player data.
+ *
+ * <p>A user evicted from the cache may still be held by a plugin. Such users
+ * are remembered weakly, so looking them up again returns the same instance
+ * instead of a second user with diverging data.</p>
+ */
+final class UserCache {
+
+    private final Cache<UUID, User> users;
+    private final Cache<UUID, User> evicted = CacheBuilder.newBuilder().weakValues().build();
+
+    UserCache(long maxWeight) {
+        this.users = CacheBuilder.newBuilder()
+                .expireAfterAccess(1, TimeUnit.DAYS)
+                .maximumWeight(maxWeight)
+                // Weigh users by their compressed player data, in KiB
+                .<UUID, User>weigher((uniqueId, user) -> user instanceof SpongeUser ? 1 + ((SpongeUser) user).getDataSize() / 1024 : 1)
+                .removalListener(notification -> {
+                    if (notification.wasEvicted() && notification.getKey() != null && notification.getValue() != null) {
+                        this.evicted.put(notification.getKey(), notification.getValue());
+                    }
+                })
+                .build();
+    }
+
+    @Nullable
+    User get(UUID uniqueId) {
+        User user = this.users.getIfPresent(uniqueId);
+        if (user == null) {
+            user = this.evicted.getIfPresent(uniqueId);
+            if (user != null) {
+                this.evicted.invalidate(uniqueId);
+                this.users.put(uniqueId, user);
+            }
+        }
+        return user;
+    }
+
+    void put(UUID uniqueId, User user) {
+        this.evicted.invalidate(uniqueId);
+        this.users.put(uniqueId, user);
+    }
+
+    Collection<User> getUsers() {
+        return this.users.asMap().values();
+    }
+
+    /**
+     * Caches a user read from stored player data. A user without a data file
+     * is cached as well, to avoid constant lookups in storage.
+     *
+     * @param profile The profile of the user
+     * @param data The stored data, or null if no data file exists
+     * @return The user, or null if no data file exists
+     */
+    @Nullable
+    User putStored(GameProfile profile, @Nullable StoredData data) {
+        final SpongeUser user = new SpongeUser(profile);
+        if (data != null && data.compound != null) {
+            user.readFromNbt(data.compound);
+            user.setDataSize(data.size);
+        }
+        // Cached after reading, so the user is weighed by its data
+        put(profile.getId(), (User) user);
+        return data == null ? null : (User) user;
+    }
+
+    static final class StoredData {
+
+        @Nullable final NBTTagCompound compound;
+        final int size;
+
+        StoredData(@Nullable NBTTagCompound compound, int size) {
+            this.compound = compound;
+            this.size = size;
+        }
+    }
+
+}
@@ -25,9 +25,8 @@
 package org.spongepowered.common.service.user;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.server.management.PlayerList;
@@ -43,6 +42,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
+import org.spongepowered.common.service.user.UserCache.StoredData;
 import org.spongepowered.common.util.SpongeUsernameCache;
 import org.spongepowered.common.world.WorldManager;
 
@@ -52,17 +52,27 @@
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 class UserDiscoverer {
 
-    private static final Cache<UUID, User> userCache = CacheBuilder.newBuilder()
-            .expireAfterAccess(1, TimeUnit.DAYS)
-            .build();
+    private static final UserCache userCache = new UserCache(SpongeImpl.getGlobalConfig().getConfig().getGeneral().getUserCacheMaxWeight());
+
+    private static final ExecutorService loaderExecutor = Executors.newFixedThreadPool(
+            Math.max(1, SpongeImpl.getGlobalConfig().getConfig().getGeneral().getUserLoaderThreads()),
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Async User Loader #%d").setDaemon(true).build());
+    // Loads in progress, so concurrent requests for the same user share one read
+    private static final Map<UUID, CompletableFuture<User>> pendingLoads = new ConcurrentHashMap<>();
 
     static User create(GameProfile profile) {
         User user = (User) new SpongeUser(profile);
@@ -81,7 +91,7 @@ static User create(GameProfile profile) {
      */
     static User findByProfile(org.spongepowered.api.profile.GameProfile profile) {
         UUID uniqueId = profile.getUniqueId();
-        User user = userCache.getIfPresent(uniqueId);
+        User user = userCache.get(uniqueId);
         if (user != null) {
             // update cached user with name
             if (user.getName() == null && profile.getName().isPresent()) {
@@ -105,6 +115,63 @@ static User findByProfile(org.spongepowered.api.profile.GameProfile profile) {
         return user;
     }
 
+    /**
+     * Searches for user data like {@link #findByProfile}, but reads stored
+     * player data on a dedicated IO thread. The remaining lookups, and the
+     * creation of the user, happen on the server thread. Concurrent requests
+     * for the same user share a single load.
+     *
+     * @param profile The user's profile
+     * @return A future completing with the user, or null if not found
+     */
+    static CompletableFuture<User> findByProfileAsync(org.spongepowered.api.profile.GameProfile profile) {
+        final UUID uniqueId = profile.getUniqueId();
+        final User cached = userCache.get(uniqueId);
+        if (cached != null && (cached.getName() != null || !profile.getName().isPresent())) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        final CompletableFuture<User> future = new CompletableFuture<>();
+        final CompletableFuture<User> pending = pendingLoads.putIfAbsent(uniqueId, future);
+        if (pending != null) {
+            return pending;
+        }
+        // Only start the load once the future is registered, the removal must not run inside the map's own update
+        future.whenComplete((user, throwable) -> pendingLoads.remove(uniqueId, future));
+        CompletableFuture
+                .supplyAsync(() -> readStoredData(uniqueId), loaderExecutor)
+                .thenApplyAsync(data -> findByProfile(profile, data), command -> SpongeImpl.getServer().addScheduledTask(command))
+                .whenComplete((user, throwable) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                    } else {
+                        future.complete(user);
+                    }
+                });
+        return future;
+    }
+
+    private static User findByProfile(org.spongepowered.api.profile.GameProfile profile, @Nullable StoredData data) {
+        final UUID uniqueId = profile.getUniqueId();
+        User user = userCache.get(uniqueId);
+        if (user != null && (user.getName() != null || !profile.getName().isPresent())) {
+            return user;
+        }
+        user = getOnlinePlayer(uniqueId);
+        if (user != null) {
+            return user;
+        }
+        // Also caches users without a data file, like the synchronous lookup
+        user = userCache.putStored((GameProfile) profile, data);
+        if (user != null) {
+            return user;
+        }
+        user = getFromWhitelist(uniqueId);
+        if (user != null) {
+            return user;
+        }
+        return getFromBanlist(uniqueId);
+    }
+
     static User findByUsername(String username) {
         // check mojang cache
         PlayerProfileCache cache = SpongeImpl.getServer().getPlayerProfileCache();
@@ -130,7 +197,7 @@ static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
         Set<org.spongepowered.api.profile.GameProfile> profiles = Sets.newHashSet();
 
         // Add all cached profiles
-        profiles.addAll(userCache.asMap().values().stream().map(User::getProfile).collect(Collectors.toList()));
+        profiles.addAll(userCache.getUsers().stream().map(User::getProfile).collect(Collectors.toList()));
 
         // Add all known profiles from the data files
         SaveHandler saveHandler = (SaveHandler) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
@@ -200,21 +267,30 @@ private static User getOnlinePlayer(UUID uniqueId) {
     }
 
     private static User getFromStoredData(org.spongepowered.api.profile.GameProfile profile) {
-        // Always cache user to avoid constant lookups in storage when file does not exist
-        final User user = create((GameProfile) profile);
+        return userCache.putStored((GameProfile) profile, readStoredData(profile.getUniqueId()));
+    }
+
+    /**
+     * Reads the stored player data of a user. Safe to call off the server
+     * thread, as long as the overworld is loaded.
+     *
+     * @param uniqueId The unique id of the user
+     * @return The stored data, or null if no data file exists
+     */
+    @Nullable
+    private static StoredData readStoredData(UUID uniqueId) {
         // Note: Uses the overworld's player data
-        final File dataFile = getPlayerDataFile(profile.getUniqueId());
+        final File dataFile = getPlayerDataFile(uniqueId);
         if (dataFile == null) {
             return null;
         }
 
-        try {
-            ((SpongeUser) user).readFromNbt(CompressedStreamTools.readCompressed(new FileInputStream(dataFile)));
+        try (FileInputStream stream = new FileInputStream(dataFile)) {
+            return new StoredData(CompressedStreamTools.readCompressed(stream), (int) Math.min(Integer.MAX_VALUE, dataFile.length()));
         } catch (IOException e) {
             SpongeImpl.getLogger().warn("Corrupt user file {}", dataFile, e);
+            return new StoredData(null, 0);
         }
-
-        return user;
     }
 
     private static User getFromWhitelist(UUID uniqueId) {
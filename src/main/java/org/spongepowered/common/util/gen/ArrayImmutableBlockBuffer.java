@@ -40,6 +40,7 @@
 import org.spongepowered.common.world.extent.ImmutableBlockViewDownsize;
 import org.spongepowered.common.world.extent.ImmutableBlockViewTransform;
 import org.spongepowered.common.world.extent.worker.SpongeBlockVolumeWorker;
+import org.spongepowered.common.world.schematic.BimapPalette;
 import org.spongepowered.common.world.schematic.GlobalPalette;
 
 public class ArrayImmutableBlockBuffer extends AbstractBlockBuffer implements ImmutableBlockVolume {
@@ -78,7 +79,12 @@ public BlockPalette getPalette() {
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkRange(x, y, z);
-        return this.palette.get(this.data.get(getIndex(x, y, z))).orElse(AIR);
+        final int id = this.data.get(getIndex(x, y, z));
+        if (this.palette instanceof BimapPalette) {
+            final BlockState state = ((BimapPalette) this.palette).getState(id);
+            return state == null ? AIR : state;
+        }
+        return this.palette.get(id).orElse(AIR);
     }
 
     @Override
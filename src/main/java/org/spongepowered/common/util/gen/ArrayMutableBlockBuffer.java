@@ -43,6 +43,10 @@
 import org.spongepowered.common.world.schematic.BimapPalette;
 import org.spongepowered.common.world.schematic.GlobalPalette;
 
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
 public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements MutableBlockVolume {
 
     /**
@@ -57,13 +61,23 @@ public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements Muta
 
     private BlockPalette palette;
     private BackingData data;
+    /**
+     * The amount of blocks per palette id. This is only tracked if this
+     * buffer created its own local palette, because only then ids may be
+     * freed and the palette compacted without affecting anyone else.
+     */
+    @Nullable private int[] counts;
 
     public ArrayMutableBlockBuffer(Vector3i start, Vector3i size) {
         this(size.getX() * size.getY() * size.getZ() > SMALL_AREA_THRESHOLD ?
-                new BimapPalette() : GlobalPalette.instance, start, size);
+                new BimapPalette() : GlobalPalette.instance, start, size, true);
     }
 
     public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i size) {
+        this(palette, start, size, false);
+    }
+
+    private ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i size, boolean ownsPalette) {
         super(start, size);
         this.palette = palette;
         int airId = palette.getOrAssign(AIR);
@@ -73,9 +87,11 @@ public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i si
 
         // all blocks default to air
         if (airId != 0) {
-            for (int i = 0; i < dataSize; i++) {
-                this.data.set(i, airId);
-            }
+            this.data.fill(airId);
+        }
+        if (ownsPalette && palette instanceof BimapPalette) {
+            this.counts = new int[palette.getHighestId() + 1];
+            this.counts[airId] = dataSize;
         }
     }
 
@@ -99,6 +115,19 @@ public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i si
         this.data = blocks;
     }
 
+    private ArrayMutableBlockBuffer(BimapPalette palette, BackingData blocks, int[] counts, Vector3i start, Vector3i size) {
+        this(palette, blocks, start, size);
+        this.counts = counts;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If this buffer created its own local palette, ids are freed once no
+     * block uses them anymore and the palette is compacted after enough ids
+     * were freed. The ids of the palette may therefore change whenever this
+     * buffer is modified, so they must not be kept across modifications.</p>
+     */
     @Override
     public BlockPalette getPalette() {
         return this.palette;
@@ -107,7 +136,27 @@ public BlockPalette getPalette() {
     @Override
     public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
         checkRange(x, y, z);
-        int id = this.palette.getOrAssign(block);
+        final int id = ensureCapacity(this.palette.getOrAssign(block), block);
+        final int index = getIndex(x, y, z);
+        if (this.counts == null) {
+            this.data.set(index, id);
+            return true;
+        }
+        final int previous = this.data.get(index);
+        if (previous != id) {
+            this.data.set(index, id);
+            this.trackChange(previous, id, 1);
+        }
+        return true;
+    }
+
+    /**
+     * Grows the backing data, if necessary, so it can store the given id.
+     *
+     * @return The id of the block, which changes if this buffer had to
+     *     switch to the global palette
+     */
+    private int ensureCapacity(int id, BlockState block) {
         if (id > this.data.getMax()) {
 
             int highId = this.palette.getHighestId();
@@ -121,9 +170,11 @@ public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
 
                 newdata = new PackedBackingData(dataSize, highId);
                 for (int i = 0; i < dataSize; i++) {
-                    newdata.set(i, newpalette.getOrAssign(this.palette.get(this.data.get(i)).orElse(AIR)));
+                    newdata.set(i, newpalette.getOrAssign(this.getState(this.data.get(i))));
                 }
                 this.palette = newpalette;
+                // Ids of the global palette are never freed
+                this.counts = null;
             } else {
 
                 newdata = new PackedBackingData(dataSize, highId);
@@ -133,14 +184,133 @@ public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
             }
             this.data = newdata;
         }
-        this.data.set(getIndex(x, y, z), id);
-        return true;
+        return id;
+    }
+
+    /**
+     * Updates the block counts after blocks changed from one id to another
+     * one. Ids that aren't used anymore are freed, so they are reused before
+     * the bit width has to grow, and once enough ids are freed the palette is
+     * compacted so the bit width shrinks again.
+     */
+    private void trackChange(int previous, int id, int amount) {
+        int[] counts = this.counts;
+        if (id >= counts.length) {
+            counts = this.counts = Arrays.copyOf(counts, Math.max(id + 1, counts.length * 2));
+        }
+        counts[id] += amount;
+        counts[previous] -= amount;
+        if (counts[previous] == 0) {
+            final BimapPalette palette = (BimapPalette) this.palette;
+            palette.remove(palette.getState(previous));
+            // Only shrink once two bits can be saved, to avoid repacking back and forth
+            if (PackedBackingData.getBits(palette.size() - 1) < PackedBackingData.getBits(this.data.getMax()) - 1) {
+                this.compact();
+            }
+        }
+    }
+
+    /**
+     * Assigns the ids of the palette from 0 up again and repacks the data
+     * with the smallest bit width that fits the remaining ids.
+     */
+    private void compact() {
+        final BimapPalette palette = (BimapPalette) this.palette;
+        final int highest = palette.getHighestId();
+        final int[] remap = new int[highest + 1];
+        final BlockState[] states = new BlockState[palette.size()];
+        final int[] counts = new int[Math.max(states.length, 1)];
+        int next = 0;
+        for (int i = 0; i <= highest; i++) {
+            final BlockState state = palette.getState(i);
+            if (state != null) {
+                remap[i] = next;
+                counts[next] = this.counts[i];
+                states[next++] = state;
+            }
+        }
+        palette.clear();
+        for (int i = 0; i < next; i++) {
+            palette.assign(states[i], i);
+        }
+        final int dataSize = area();
+        final BackingData newdata = new PackedBackingData(dataSize, next - 1);
+        for (int i = 0; i < dataSize; i++) {
+            newdata.set(i, remap[this.data.get(i)]);
+        }
+        this.data = newdata;
+        this.counts = counts;
+    }
+
+    /**
+     * Sets every block of this buffer to the given block.
+     *
+     * @param block The block to fill this buffer with
+     */
+    public void fill(BlockState block) {
+        if (this.counts != null) {
+            // Nothing else remains, so the palette only has to hold this block
+            final BimapPalette palette = (BimapPalette) this.palette;
+            palette.clear();
+            palette.assign(block, 0);
+            this.data = new PackedBackingData(area(), 0);
+            this.counts = new int[] {area()};
+            return;
+        }
+        final int id = ensureCapacity(this.palette.getOrAssign(block), block);
+        this.data.fill(id);
+    }
+
+    /**
+     * Replaces every occurrence of a block in this buffer with another
+     * block.
+     *
+     * @param from The block to replace
+     * @param to The block to replace it with
+     */
+    public void replace(BlockState from, BlockState to) {
+        if (from == to) {
+            return;
+        }
+        if (this.counts != null) {
+            final BimapPalette palette = (BimapPalette) this.palette;
+            final int fromId = palette.getId(from);
+            if (fromId == -1) {
+                return;
+            }
+            final int toId = palette.getId(to);
+            if (toId == -1) {
+                // The new block isn't used yet, so it can simply take over the id of the old block
+                palette.remove(from);
+                palette.assign(to, fromId);
+                return;
+            }
+            final int replaced = this.data.replace(fromId, toId);
+            if (replaced > 0) {
+                this.trackChange(fromId, toId, replaced);
+            }
+            return;
+        }
+        if (!this.palette.get(from).isPresent()) {
+            return;
+        }
+        final int toId = ensureCapacity(this.palette.getOrAssign(to), to);
+        // Resolve the id afterwards, the buffer may have switched to the global palette
+        this.data.replace(this.palette.getOrAssign(from), toId);
     }
 
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkRange(x, y, z);
-        return this.palette.get(this.data.get(getIndex(x, y, z))).orElse(AIR);
+        return this.getState(this.data.get(getIndex(x, y, z)));
+    }
+
+    private BlockState getState(int id) {
+        if (this.palette instanceof BimapPalette) {
+            final BlockState state = ((BimapPalette) this.palette).getState(id);
+            return state == null ? AIR : state;
+        }
+        return this.palette.get(id).orElse(AIR);
     }
 
     @Override
@@ -169,6 +339,11 @@ public UnmodifiableBlockVolume getUnmodifiableBlockView() {
     public MutableBlockVolume getBlockCopy(StorageType type) {
         switch (type) {
             case STANDARD:
+                if (this.counts != null) {
+                    // The palette of this buffer may change destructively, so the copy gets its own
+                    return new ArrayMutableBlockBuffer(((BimapPalette) this.palette).copy(), this.data.copyOf(), this.counts.clone(),
+                            this.start, this.size);
+                }
                 return new ArrayMutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
             case THREAD_SAFE:
             default:
@@ -178,7 +353,8 @@ public MutableBlockVolume getBlockCopy(StorageType type) {
 
     @Override
     public ImmutableBlockVolume getImmutableBlockCopy() {
-        return new ArrayImmutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
+        final BlockPalette palette = this.counts != null ? ((BimapPalette) this.palette).copy() : this.palette;
+        return new ArrayImmutableBlockBuffer(palette, this.data.copyOf(), this.start, this.size);
     }
 
     private int area() {
@@ -209,6 +385,18 @@ interface BackingData {
          * Gets the maximum id supported by this BackingData
          */
         int getMax();
+
+        /**
+         * Sets every index to the id.
+         */
+        void fill(int val);
+
+        /**
+         * Replaces every occurrence of an id with another id.
+         *
+         * @return The amount of replaced entries
+         */
+        int replace(int from, int to);
     }
 
     static class CharBackingData implements BackingData {
@@ -238,6 +426,26 @@ public BackingData copyOf() {
         public int getMax() {
             return Character.MAX_VALUE;
         }
+
+        @Override
+        public void fill(int val) {
+            Arrays.fill(this.data, (char) val);
+        }
+
+        @Override
+        public int replace(int from, int to) {
+            final char[] data = this.data;
+            final char fromChar = (char) from;
+            final char toChar = (char) to;
+            int replaced = 0;
+            for (int i = 0; i < data.length; i++) {
+                if (data[i] == fromChar) {
+                    data[i] = toChar;
+                    replaced++;
+                }
+            }
+            return replaced;
+        }
     }
 
     static class PackedBackingData implements BackingData {
@@ -262,14 +470,22 @@ static class PackedBackingData implements BackingData {
          */
         public PackedBackingData(int size, int highestValue) {
             this.arraySize = size;
-            int bits;
-            for (bits = 0; 1 << bits <= highestValue; bits++);
-            this.bits = bits;
+            this.bits = getBits(highestValue);
 
             this.maxValue = (1 << bits) - 1;
             this.longArray = new long[MathHelper.roundUp(size * bits, Long.SIZE) / Long.SIZE];
         }
 
+        /**
+         * Gets the amount of bits needed to store values up to the highest
+         * value. At least one bit is always used.
+         */
+        static int getBits(int highestValue) {
+            int bits;
+            for (bits = 1; 1 << bits <= highestValue; bits++);
+            return bits;
+        }
+
         private PackedBackingData(int size, int bits, long[] array) {
             this.arraySize = size;
             this.bits = bits;
@@ -318,5 +534,34 @@ public PackedBackingData copyOf() {
         public int getMax() {
             return (int) this.maxValue;
         }
+
+        @Override
+        public void fill(int value) {
+            // 64 entries take up exactly as many longs as there are bits per entry,
+            // so the longs of the first 64 entries repeat over the whole array
+            final int entries = Math.min(this.arraySize, Long.SIZE);
+            for (int i = 0; i < entries; i++) {
+                this.set(i, value);
+            }
+            final long[] longArray = this.longArray;
+            int filled = Math.min(this.bits, longArray.length);
+            while (filled < longArray.length) {
+                final int length = Math.min(filled, longArray.length - filled);
+                System.arraycopy(longArray, 0, longArray, filled, length);
+                filled += length;
+            }
+        }
+
+        @Override
+        public int replace(int from, int to) {
+            int replaced = 0;
+            for (int i = 0; i < this.arraySize; i++) {
+                if (this.get(i) == from) {
+                    this.set(i, to);
+                    replaced++;
+                }
+            }
+            return replaced;
+        }
     }
 }
@@ -27,11 +27,21 @@
 import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.biome.VirtualBiomeType;
 import org.spongepowered.api.world.extent.BiomeVolume;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.common.interfaces.world.IMixinBlockStateContainer;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
 
 public class ExtentBufferUtil {
 
@@ -64,6 +74,9 @@ public static char[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max,
             throw new OutOfMemoryError("Cannot copy the blocks to an array because the size limit was reached");
         }
         final char[] copy = new char[(int) memory];
+        if (copySections(volume, min, max, size, copy)) {
+            return copy;
+        }
         int i = 0;
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int z = min.getZ(); z <= max.getZ(); z++) {
@@ -75,4 +88,83 @@ public static char[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max,
         return copy;
     }
 
+    /**
+     * Copies the blocks section by section if the volume is backed by a
+     * world or chunk, decoding the packed section data directly instead
+     * of looking up every block through the API.
+     *
+     * @return False if the volume isn't backed by chunks
+     */
+    private static boolean copySections(BlockVolume volume, Vector3i min, Vector3i max, Vector3i size, char[] copy) {
+        // The downsized views only restrict the range, so read from the backing volume instead
+        BlockVolume source = volume;
+        while (true) {
+            if (source instanceof AbstractBlockViewDownsize) {
+                source = ((AbstractBlockViewDownsize<?>) source).volume;
+            } else if (source instanceof ExtentViewDownsize) {
+                source = ((ExtentViewDownsize) source).getBackingExtent();
+            } else {
+                break;
+            }
+        }
+        @Nullable final World world;
+        @Nullable final Chunk singleChunk;
+        if (source instanceof World) {
+            world = (World) source;
+            singleChunk = null;
+        } else if (source instanceof Chunk) {
+            singleChunk = (Chunk) source;
+            world = singleChunk.getWorld();
+        } else {
+            return false;
+        }
+        if (world.getWorldType() == WorldType.DEBUG_ALL_BLOCK_STATES) {
+            return false;
+        }
+        final int airId = Block.BLOCK_STATE_IDS.get(Blocks.AIR.getDefaultState());
+        final int xMin = min.getX();
+        final int yMin = min.getY();
+        final int zMin = min.getZ();
+        final int yLine = size.getY();
+        final int yzSlice = size.getY() * size.getZ();
+        final char[] section = new char[4096];
+        for (int chunkX = xMin >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+            final int xStart = Math.max(xMin, chunkX << 4);
+            final int xEnd = Math.min(max.getX(), (chunkX << 4) + 15);
+            for (int chunkZ = zMin >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                final int zStart = Math.max(zMin, chunkZ << 4);
+                final int zEnd = Math.min(max.getZ(), (chunkZ << 4) + 15);
+                final Chunk chunk = singleChunk != null ? singleChunk : world.getChunkFromChunkCoords(chunkX, chunkZ);
+                final ExtendedBlockStorage[] storages = chunk.getBlockStorageArray();
+                for (int sectionY = yMin >> 4; sectionY <= max.getY() >> 4; sectionY++) {
+                    final int yStart = Math.max(yMin, sectionY << 4);
+                    final int yEnd = Math.min(max.getY(), (sectionY << 4) + 15);
+                    final ExtendedBlockStorage storage = sectionY >= 0 && sectionY < storages.length ? storages[sectionY] : null;
+                    final boolean empty = storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty();
+                    if (empty && airId == 0) {
+                        // The array is already filled with air
+                        continue;
+                    }
+                    if (!empty) {
+                        ((IMixinBlockStateContainer) storage.getData()).copyStateIds(section);
+                    }
+                    for (int x = xStart; x <= xEnd; x++) {
+                        for (int z = zStart; z <= zEnd; z++) {
+                            final int offset = (x - xMin) * yzSlice + (z - zMin) * yLine - yMin;
+                            if (empty) {
+                                Arrays.fill(copy, offset + yStart, offset + yEnd + 1, (char) airId);
+                                continue;
+                            }
+                            final int column = (z & 15) << 4 | (x & 15);
+                            for (int y = yStart; y <= yEnd; y++) {
+                                copy[offset + y] = section[(y & 15) << 8 | column];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
 }
@@ -159,6 +159,10 @@ public boolean containsBlock(int x, int y, int z) {
         return VecHelper.inBounds(x, y, z, this.blockMin, this.blockMax);
     }
 
+    Extent getBackingExtent() {
+        return this.extent;
+    }
+
     private void checkBlockRange(double x, double y, double z) {
         if (!VecHelper.inBounds(x, y, z, this.blockMin, this.blockMax)) {
             throw new PositionOutOfBoundsException(new Vector3d(x, y, z), this.blockMin.toDouble(), this.blockMax.toDouble());
@@ -31,6 +31,7 @@
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
@@ -38,17 +39,25 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
 import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 
 /**
  *
  */
 public class SpongeBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
 
+    /**
+     * Volumes smaller than this amount of blocks are never split up, the
+     * overhead of the fork join tasks would outweigh the gain.
+     */
+    private static final int PARALLEL_THRESHOLD = 16 * 16 * 16 * 16;
+
     protected final V volume;
     protected final Cause cause;
 
@@ -82,12 +91,41 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
                 .addCaptures()
                 .complete());
         }
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
+        if (canRunParallel(this.volume)) {
+            // Only the mapping is done in parallel, the destination is still written from this thread
+            final BlockState[][] sections = computeSections(yMin, yMax, (yStart, yEnd) -> {
+                final BlockState[] blocks = new BlockState[(xMax - xMin + 1) * (yEnd - yStart + 1) * (zMax - zMin + 1)];
+                int i = 0;
+                for (int z = zMin; z <= zMax; z++) {
+                    for (int y = yStart; y <= yEnd; y++) {
+                        for (int x = xMin; x <= xMax; x++) {
+                            blocks[i++] = mapper.map(unmodifiableVolume, x, y, z);
+                        }
+                    }
+                }
+                return blocks;
+            });
+            for (int section = 0; section < sections.length; section++) {
+                final BlockState[] blocks = sections[section];
+                final int yStart = yMin + (section << 4);
+                final int yEnd = Math.min(yMax, yStart + 15);
+                int i = 0;
+                for (int z = zMin; z <= zMax; z++) {
+                    for (int y = yStart; y <= yEnd; y++) {
+                        for (int x = xMin; x <= xMax; x++) {
+                            destination.setBlock(x + xOffset, y + yOffset, z + zOffset, blocks[i++], this.cause);
+                        }
+                    }
+                }
+            }
+        } else {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
 
-                    destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block, this.cause);
+                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block, this.cause);
+                    }
                 }
             }
         }
@@ -122,12 +160,43 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
                 .addCaptures()
                 .complete());
         }
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
-                        secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
-                    destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block, this.cause);
+        if (canRunParallel(this.volume) && second instanceof ImmutableBlockVolume) {
+            // Only the merging is done in parallel, the destination is still written from this thread
+            final BlockState[][] sections = computeSections(yMin, yMax, (yStart, yEnd) -> {
+                final BlockState[] blocks = new BlockState[(xMax - xMin + 1) * (yEnd - yStart + 1) * (zMax - zMin + 1)];
+                int i = 0;
+                for (int z = zMin; z <= zMax; z++) {
+                    for (int y = yStart; y <= yEnd; y++) {
+                        for (int x = xMin; x <= xMax; x++) {
+                            blocks[i++] = merger.merge(firstUnmodifiableVolume, x, y, z,
+                                secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
+                        }
+                    }
+                }
+                return blocks;
+            });
+            for (int section = 0; section < sections.length; section++) {
+                final BlockState[] blocks = sections[section];
+                final int yStart = yMin + (section << 4);
+                final int yEnd = Math.min(yMax, yStart + 15);
+                int i = 0;
+                for (int z = zMin; z <= zMax; z++) {
+                    for (int y = yStart; y <= yEnd; y++) {
+                        for (int x = xMin; x <= xMax; x++) {
+                            destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, blocks[i++],
+                                this.cause);
+                        }
+                    }
+                }
+            }
+        } else {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
+                            secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
+                        destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block, this.cause);
+                    }
                 }
             }
         }
@@ -171,6 +240,26 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (canRunParallel(this.volume)) {
+            // Every section is reduced on its own, the partial results are combined with the merge function
+            return IntStream.rangeClosed(0, (yMax - yMin) >> 4)
+                .parallel()
+                .mapToObj(section -> {
+                    final int yStart = yMin + (section << 4);
+                    final int yEnd = Math.min(yMax, yStart + 15);
+                    T reduction = identity;
+                    for (int z = zMin; z <= zMax; z++) {
+                        for (int y = yStart; y <= yEnd; y++) {
+                            for (int x = xMin; x <= xMax; x++) {
+                                reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                            }
+                        }
+                    }
+                    return reduction;
+                })
+                .reduce(merge::apply)
+                .orElse(identity);
+        }
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
@@ -182,6 +271,41 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         return reduction;
     }
 
+    /**
+     * Gets whether the work on the given volume may be split up by sections
+     * and run in parallel. Only immutable volumes are safe to read from
+     * multiple threads, and the procedures have to be thread safe as well,
+     * which is why this has to be enabled in the config.
+     */
+    private static boolean canRunParallel(BlockVolume volume) {
+        if (!(volume instanceof ImmutableBlockVolume)) {
+            return false;
+        }
+        final Vector3i size = volume.getBlockSize();
+        return (long) size.getX() * size.getY() * size.getZ() >= PARALLEL_THRESHOLD
+            && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelVolumeWorkers();
+    }
+
+    /**
+     * Computes the results for every section of 16 blocks height in the
+     * common fork join pool.
+     */
+    private static BlockState[][] computeSections(int yMin, int yMax, SectionFunction function) {
+        final BlockState[][] sections = new BlockState[((yMax - yMin) >> 4) + 1][];
+        IntStream.range(0, sections.length).parallel().forEach(section -> {
+            final int yStart = yMin + (section << 4);
+            sections[section] = function.apply(yStart, Math.min(yMax, yStart + 15));
+        });
+        return sections;
+    }
+
+    @FunctionalInterface
+    private interface SectionFunction {
+
+        BlockState[] apply(int yStart, int yEnd);
+
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
@@ -0,0 +1,132 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * The primers of chunks that are generated ahead of time on worker threads,
+ * until the chunks are actually generated.
+ *
+ * <p>At most a fixed amount of primers is pending at once. Primers that
+ * were not taken before they expired, for example because the chunk got
+ * generated some other way or the task preparing them stopped, are purged
+ * once the queue is full.</p>
+ *
+ * @param <T> The type of the generated primers
+ */
+final class PendingPrimerQueue<T> {
+
+    private final Map<Long, PendingPrimer<T>> pending = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int capacity;
+    private final long expiryNanos;
+
+    PendingPrimerQueue(Executor executor, int capacity, long expiryNanos) {
+        this.executor = executor;
+        this.capacity = capacity;
+        this.expiryNanos = expiryNanos;
+    }
+
+    /**
+     * Starts generating a primer on the executor, unless it is already
+     * pending.
+     *
+     * @param key The packed position of the chunk
+     * @param generator The generator of the primer
+     * @return False if the queue is full
+     */
+    boolean submit(long key, Supplier<T> generator) {
+        if (this.pending.size() >= this.capacity && !purgeExpired()) {
+            return false;
+        }
+        if (!this.pending.containsKey(key)) {
+            this.pending.put(key, new PendingPrimer<>(CompletableFuture.supplyAsync(generator, this.executor),
+                    System.nanoTime() + this.expiryNanos));
+        }
+        return true;
+    }
+
+    /**
+     * Removes the pending primer of a chunk.
+     *
+     * @param key The packed position of the chunk
+     * @return The primer, or null if none is pending
+     */
+    @Nullable
+    CompletableFuture<T> take(long key) {
+        final PendingPrimer<T> primer = this.pending.remove(key);
+        return primer == null ? null : primer.future;
+    }
+
+    int size() {
+        return this.pending.size();
+    }
+
+    /**
+     * Drops every pending primer, primers which are not being generated yet
+     * are not generated at all anymore.
+     */
+    void clear() {
+        final Iterator<PendingPrimer<T>> iterator = this.pending.values().iterator();
+        while (iterator.hasNext()) {
+            iterator.next().future.cancel(false);
+            iterator.remove();
+        }
+    }
+
+    private boolean purgeExpired() {
+        final long now = System.nanoTime();
+        boolean purged = false;
+        final Iterator<PendingPrimer<T>> iterator = this.pending.values().iterator();
+        while (iterator.hasNext()) {
+            final PendingPrimer<T> primer = iterator.next();
+            if (now - primer.deadline >= 0) {
+                primer.future.cancel(false);
+                iterator.remove();
+                purged = true;
+            }
+        }
+        return purged;
+    }
+
+    private static final class PendingPrimer<T> {
+
+        final CompletableFuture<T> future;
+        final long deadline;
+
+        PendingPrimer(CompletableFuture<T> future, long deadline) {
+            this.future = future;
+            this.deadline = deadline;
+        }
+    }
+}
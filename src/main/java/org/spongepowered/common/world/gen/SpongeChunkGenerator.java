@@ -33,6 +33,7 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -74,6 +75,7 @@
 import org.spongepowered.api.world.gen.PopulatorType;
 import org.spongepowered.api.world.gen.WorldGenerator;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ParallelTerrainGenerationCategory;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -83,6 +85,7 @@
 import org.spongepowered.common.interfaces.world.gen.IChunkProviderOverworld;
 import org.spongepowered.common.interfaces.world.gen.IFlaggedPopulator;
 import org.spongepowered.common.interfaces.world.gen.IGenerationPopulator;
+import org.spongepowered.common.interfaces.world.gen.IThreadSafeGenerator;
 import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
 import org.spongepowered.common.util.gen.ObjectArrayMutableBiomeBuffer;
 import org.spongepowered.common.world.biome.SpongeBiomeGenerationSettings;
@@ -90,10 +93,17 @@
 import org.spongepowered.common.world.gen.populators.SnowPopulator;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -105,6 +115,8 @@
 public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
 
     private static final Vector3i CHUNK_AREA = new Vector3i(16, 1, 16);
+    private static final int MAX_PENDING_PRIMERS = 256;
+    private static final long PENDING_PRIMER_EXPIRY = TimeUnit.MINUTES.toNanos(1);
 
     protected BiomeGenerator biomeGenerator;
     protected GenerationPopulator baseGenerator;
@@ -117,6 +129,12 @@ public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
     protected Random rand;
     private NoiseGeneratorPerlin noise4;
     private double[] stoneNoise;
+    // The buffers of the main thread and of each terrain generation worker
+    private final GenerationBuffers buffers;
+    private final ThreadLocal<GenerationBuffers> workerBuffers =
+            ThreadLocal.withInitial(() -> new GenerationBuffers(new Random(), new ObjectArrayMutableBiomeBuffer(Vector3i.ZERO, CHUNK_AREA)));
+    private final PendingPrimerQueue<GeneratedPrimer> pendingPrimers =
+            new PendingPrimerQueue<>(TerrainWorkers.EXECUTOR, MAX_PENDING_PRIMERS, PENDING_PRIMER_EXPIRY);
 
     protected Map<String, Timing> populatorTimings = Maps.newHashMap();
     protected Timing chunkGeneratorTiming;
@@ -135,6 +153,7 @@ public SpongeChunkGenerator(World world, GenerationPopulator base, BiomeGenerato
         this.rand = new Random(world.getSeed());
         this.noise4 = new NoiseGeneratorPerlin(this.rand, 4);
         this.stoneNoise = new double[256];
+        this.buffers = new GenerationBuffers(this.rand, this.cachedBiomes);
 
         this.world.provider.biomeProvider = CustomBiomeProvider.of(this.biomeGenerator);
         if (this.baseGenerator instanceof IChunkProviderOverworld) {
@@ -220,7 +239,9 @@ public BiomeGenerationSettings getBiomeSettings(BiomeType type) {
             } else {
                 settings = type.createDefaultGenerationSettings((org.spongepowered.api.world.World) this.world);
             }
-            this.biomeSettings.put(type, settings);
+            synchronized (this.biomeSettings) {
+                this.biomeSettings.put(type, settings);
+            }
         }
         return settings;
     }
@@ -237,56 +258,180 @@ public List<Populator> getPopulators(Class<? extends Populator> type) {
 
     @Override
     public Chunk generateChunk(int chunkX, int chunkZ) {
-        this.rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
-        this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
-        this.biomeGenerator.generateBiomes(this.cachedBiomes);
-        ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        GeneratedPrimer generated = null;
+        final CompletableFuture<GeneratedPrimer> pending = this.pendingPrimers.take(ChunkPos.asLong(chunkX, chunkZ));
+        if (pending != null) {
+            // Null if a generator turned out not to be thread safe for this chunk
+            generated = pending.join();
+        }
+        if (generated == null) {
+            generated = generatePrimer(chunkX, chunkZ, this.buffers, this.baseGenerator, this.biomeGenerator, this.genpop, this::getBiomeSettings);
+        }
 
-        // Generate base terrain
-        ChunkPrimer chunkprimer = new ChunkPrimer();
-        MutableBlockVolume blockBuffer = new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ);
-        this.baseGenerator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+        // Assemble chunk
+        Chunk chunk;
+        if (this.baseGenerator instanceof SpongeGenerationPopulator && ((SpongeGenerationPopulator) this.baseGenerator).getCachedChunk() != null) {
+            chunk = ((SpongeGenerationPopulator) this.baseGenerator).getCachedChunk();
+            ((IMixinChunk) chunk).fill(generated.primer);
+        } else {
+            chunk = new Chunk(this.world, generated.primer, chunkX, chunkZ);
+            System.arraycopy(generated.biomes, 0, chunk.getBiomeArray(), 0, generated.biomes.length);
+        }
+        chunk.generateSkylightMap();
+        return chunk;
+    }
 
-        if (!(this.baseGenerator instanceof SpongeGenerationPopulator)) {
-            replaceBiomeBlocks(this.world, this.rand, chunkX, chunkZ, chunkprimer, biomeBuffer);
+    /**
+     * Starts generating the terrain of the given chunks on the terrain
+     * generation workers, so {@link #generateChunk(int, int)} only has to
+     * assemble them. Nothing is started if the generators of this world are
+     * not all thread safe.
+     *
+     * @param chunks The chunks that are about to be generated
+     * @return The number of chunks whose terrain is being generated
+     */
+    public int prepareChunks(Collection<ChunkPos> chunks) {
+        if (!canGenerateConcurrently()) {
+            return 0;
         }
+        final GenerationPopulator base = this.baseGenerator;
+        final BiomeGenerator biomeGenerator = this.biomeGenerator;
+        final List<GenerationPopulator> populators = ImmutableList.copyOf(this.genpop);
+        int prepared = 0;
+        for (ChunkPos pos : chunks) {
+            final boolean submitted = this.pendingPrimers.submit(ChunkPos.asLong(pos.x, pos.z), () -> {
+                try {
+                    return generatePrimer(pos.x, pos.z, this.workerBuffers.get(), base, biomeGenerator, populators,
+                            this::getThreadSafeBiomeSettings);
+                } catch (Throwable e) {
+                    SpongeImpl.getLogger().error("Failed to generate the terrain of chunk {} off the main thread", pos, e);
+                    return null;
+                }
+            });
+            if (!submitted) {
+                break;
+            }
+            prepared++;
+        }
+        return prepared;
+    }
 
-        // Apply the generator populators to complete the blockBuffer
+    /**
+     * Drops the terrain of every chunk prepared by
+     * {@link #prepareChunks(Collection)} that wasn't generated yet. Called
+     * once whatever prepared the chunks doesn't need them anymore.
+     */
+    public void cancelPreparedChunks() {
+        this.pendingPrimers.clear();
+    }
+
+    public boolean canGenerateConcurrently() {
+        final ParallelTerrainGenerationCategory category =
+                SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelTerrainGeneration();
+        if (!category.isEnabled()) {
+            return false;
+        }
+        if (!isThreadSafe(this.baseGenerator, category) || !isThreadSafe(this.biomeGenerator, category)) {
+            return false;
+        }
         for (GenerationPopulator populator : this.genpop) {
-            populator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+            if (!isThreadSafe(populator, category)) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    /**
+     * Gets whether the generator is known to be thread safe, either because
+     * it is marked as such or because its class is listed in the config.
+     */
+    private static boolean isThreadSafe(Object generator, ParallelTerrainGenerationCategory category) {
+        return generator instanceof IThreadSafeGenerator || category.getThreadSafeGenerators().contains(generator.getClass().getName());
+    }
+
+    /**
+     * Generates the biomes and the terrain of a chunk, without touching the
+     * world.
+     *
+     * @return The generated primer, or null if a biome had no usable settings
+     */
+    @Nullable
+    private GeneratedPrimer generatePrimer(int chunkX, int chunkZ, GenerationBuffers buffers, GenerationPopulator base,
+            BiomeGenerator biomeGenerator, List<GenerationPopulator> populators, Function<BiomeType, BiomeGenerationSettings> settingsLookup) {
+        final org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) this.world;
+        buffers.rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
+        buffers.biomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
+        biomeGenerator.generateBiomes(buffers.biomes);
+        ImmutableBiomeVolume biomeBuffer = buffers.biomes.getImmutableBiomeCopy();
 
         // Get unique biomes to determine what generator populators to run
-        List<BiomeType> uniqueBiomes = Lists.newArrayList();
+        final Map<BiomeType, BiomeGenerationSettings> uniqueBiomes = new LinkedHashMap<>();
         BiomeType biome;
         for (int x = 0; x < 16; x++) {
             for (int z = 0; z < 16; z++) {
-                biome = this.cachedBiomes.getBiome(chunkX * 16 + x, 0, chunkZ * 16 + z);
-                if (!uniqueBiomes.contains(biome)) {
-                    uniqueBiomes.add(biome);
+                biome = buffers.biomes.getBiome(chunkX * 16 + x, 0, chunkZ * 16 + z);
+                if (!uniqueBiomes.containsKey(biome)) {
+                    final BiomeGenerationSettings settings = settingsLookup.apply(biome);
+                    if (settings == null) {
+                        return null;
+                    }
+                    uniqueBiomes.put(biome, settings);
                 }
             }
         }
 
+        // Generate base terrain
+        ChunkPrimer chunkprimer = new ChunkPrimer();
+        MutableBlockVolume blockBuffer = new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ);
+        base.populate(spongeWorld, blockBuffer, biomeBuffer);
+
+        if (!(base instanceof SpongeGenerationPopulator)) {
+            buffers.stoneNoise = replaceBiomeBlocks(this.world, buffers.rand, chunkX, chunkZ, chunkprimer, biomeBuffer, buffers.stoneNoise,
+                    uniqueBiomes::get);
+        }
+
+        // Apply the generator populators to complete the blockBuffer
+        for (GenerationPopulator populator : populators) {
+            populator.populate(spongeWorld, blockBuffer, biomeBuffer);
+        }
+
         // run our generator populators
-        for (BiomeType type : uniqueBiomes) {
-            BiomeGenerationSettings settings = getBiomeSettings(type);
+        for (BiomeGenerationSettings settings : uniqueBiomes.values()) {
             for (GenerationPopulator populator : settings.getGenerationPopulators()) {
-                populator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+                populator.populate(spongeWorld, blockBuffer, biomeBuffer);
             }
         }
 
-        // Assemble chunk
-        Chunk chunk;
-        if (this.baseGenerator instanceof SpongeGenerationPopulator && ((SpongeGenerationPopulator) this.baseGenerator).getCachedChunk() != null) {
-            chunk = ((SpongeGenerationPopulator) this.baseGenerator).getCachedChunk();
-            ((IMixinChunk) chunk).fill(chunkprimer);
-        } else {
-            chunk = new Chunk(this.world, chunkprimer, chunkX, chunkZ);
-            this.cachedBiomes.fill(chunk.getBiomeArray());
+        final byte[] biomes = new byte[256];
+        buffers.biomes.fill(biomes);
+        return new GeneratedPrimer(chunkprimer, biomes);
+    }
+
+    /**
+     * Gets the settings of a biome for a terrain generation worker. The
+     * settings are only created on the main thread, as creating the default
+     * settings is not thread safe.
+     *
+     * @return The settings, or null if they don't exist yet or aren't thread safe
+     */
+    @Nullable
+    private BiomeGenerationSettings getThreadSafeBiomeSettings(BiomeType type) {
+        final BiomeGenerationSettings settings;
+        synchronized (this.biomeSettings) {
+            settings = this.biomeSettings.get(type);
         }
-        chunk.generateSkylightMap();
-        return chunk;
+        if (settings == null) {
+            return null;
+        }
+        final ParallelTerrainGenerationCategory category =
+                SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelTerrainGeneration();
+        for (GenerationPopulator populator : settings.getGenerationPopulators()) {
+            if (!isThreadSafe(populator, category)) {
+                return null;
+            }
+        }
+        return settings;
     }
 
     @Override
@@ -517,16 +662,23 @@ public void recreateStructures(Chunk chunkIn, int x, int z) {
     }
 
     public void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeVolume biomes) {
+        this.stoneNoise = replaceBiomeBlocks(world, rand, x, z, chunk, biomes, this.stoneNoise, this::getBiomeSettings);
+    }
+
+    private double[] replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeVolume biomes, double[] stoneNoise,
+            Function<BiomeType, BiomeGenerationSettings> settingsLookup) {
         double d0 = 0.03125D;
-        this.stoneNoise = this.noise4.getRegion(this.stoneNoise, x * 16, z * 16, 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
+        // Reading a noise region keeps no state in the generator, only in the given array
+        stoneNoise = this.noise4.getRegion(stoneNoise, x * 16, z * 16, 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
         Vector3i min = biomes.getBiomeMin();
         for (int x0 = 0; x0 < 16; ++x0) {
             for (int z0 = 0; z0 < 16; ++z0) {
                 BiomeType biomegenbase = biomes.getBiome(min.getX() + x0, 0, min.getZ() + z0);
-                generateBiomeTerrain(world, rand, chunk, x * 16 + x0, z * 16 + z0, this.stoneNoise[x0 + z0 * 16],
-                        getBiomeSettings(biomegenbase).getGroundCoverLayers());
+                generateBiomeTerrain(world, rand, chunk, x * 16 + x0, z * 16 + z0, stoneNoise[x0 + z0 * 16],
+                        settingsLookup.apply(biomegenbase).getGroundCoverLayers());
             }
         }
+        return stoneNoise;
     }
 
     public void generateBiomeTerrain(World worldIn, Random rand, ChunkPrimer chunk, int x, int z, double stoneNoise,
@@ -595,4 +747,33 @@ public void generateBiomeTerrain(World worldIn, Random rand, ChunkPrimer chunk,
         }
     }
 
+    private static final class GenerationBuffers {
+
+        final Random rand;
+        final ObjectArrayMutableBiomeBuffer biomes;
+        double[] stoneNoise = new double[256];
+
+        GenerationBuffers(Random rand, ObjectArrayMutableBiomeBuffer biomes) {
+            this.rand = rand;
+            this.biomes = biomes;
+        }
+    }
+
+    private static final class GeneratedPrimer {
+
+        final ChunkPrimer primer;
+        final byte[] biomes;
+
+        GeneratedPrimer(ChunkPrimer primer, byte[] biomes) {
+            this.primer = primer;
+            this.biomes = biomes;
+        }
+    }
+
+    private static final class TerrainWorkers {
+
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+                new ThreadFactoryBuilder().setNameFormat("Sponge - Terrain Generation Worker #%d").setDaemon(true).build());
+    }
+
 }
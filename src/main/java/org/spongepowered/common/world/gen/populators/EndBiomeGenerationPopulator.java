@@ -32,8 +32,9 @@
 import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.gen.GenerationPopulator;
+import org.spongepowered.common.interfaces.world.gen.IThreadSafeGenerator;
 
-public class EndBiomeGenerationPopulator implements GenerationPopulator {
+public class EndBiomeGenerationPopulator implements GenerationPopulator, IThreadSafeGenerator {
     private final Cause populatorCause = Cause.source(this).build();
 
     @Override
@@ -30,6 +30,11 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraft.world.gen.IChunkGenerator;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -44,16 +49,21 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMap;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -61,6 +71,10 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private static final int DEFAULT_TICK_INTERVAL = 4;
     private static final float DEFAULT_TICK_PERCENT = 0.8f;
+    private static final int SCAN_AHEAD = 1024;
+    private static final int SCAN_BATCH_SIZE = 128;
+    // Chunks that are this many chunks inside of the lowest layer still being generated are unloaded
+    private static final int UNLOAD_DISTANCE = 4;
 
     private static final Vector3i[] OFFSETS = {
             Vector3i.UNIT_Z.negate().mul(2),
@@ -72,7 +86,8 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private final Scheduler scheduler;
 
     private final World world;
-    private final Predicate<Vector3i> doesChunkExistCheck;
+    @Nullable private final IMixinAnvilChunkLoader chunkLoader;
+    private final Vector3i centerChunk;
     private final int chunkRadius;
     private final int chunkCount;
     private final float tickPercent;
@@ -95,6 +110,11 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private int chunksSkipped = 0;
     private int chunksGenerated = 0;
 
+    // The upcoming chunk groups of the spiral, their existence is checked off the main thread
+    private final Deque<ChunkGroup> scannedGroups = new ArrayDeque<>();
+    // The chunks loaded by this task, in load order, to unload them once the spiral has moved away
+    private final Deque<Vector3i> loadedChunks = new ArrayDeque<>();
+
     // Used for wall clock times.
     private long generationStartTime = 0;
     private long generationEndTime = 0;
@@ -111,15 +131,14 @@ private SpongeChunkPreGenerateTask(Object plugin,
         this.world = world;
 
         // In order to be able to check whether a chunk exists, we could use standard Sponge API methods. However,
-        // because they set up an async method which we need to get sync anyway, we just bypass it.
-        // This results in a extremely noticeable speed improvement.
+        // they read the whole chunk, while we only need the region file header, which we read ahead in batches
+        // off the main thread.
         //
         // This also allows us to catch non Anvil file formats too.
         if (world.getWorldStorage() instanceof IMixinAnvilChunkLoader) {
-            this.doesChunkExistCheck = v -> ((IMixinAnvilChunkLoader) world.getWorldStorage())
-                    .chunkExists((net.minecraft.world.World) this.world, v.getX(), v.getZ());
+            this.chunkLoader = (IMixinAnvilChunkLoader) world.getWorldStorage();
         } else {
-            this.doesChunkExistCheck = v -> false;
+            this.chunkLoader = null;
         }
 
         this.chunkRadius = GenericMath.floor(diameter / 32);
@@ -131,6 +150,7 @@ private SpongeChunkPreGenerateTask(Object plugin,
         final Optional<Vector3i> currentPosition = SpongeChunkLayout.instance.toChunk(center.toInt());
         if (currentPosition.isPresent()) {
             this.currentPosition = currentPosition.get();
+            this.centerChunk = this.currentPosition;
         } else {
             throw new IllegalArgumentException("Center is not a valid chunk coordinate");
         }
@@ -207,6 +227,7 @@ public void cancel() {
             }
             this.spongeTask.cancel();
             this.isCancelled = true;
+            cancelPreparedChunks();
         }
     }
 
@@ -236,31 +257,37 @@ public void accept(Task task) {
             return;
         }
 
+        scanAhead();
+        prepareScannedChunks();
+
         // Count how many chunks are generated during the tick
         int count = 0;
         int skipped = 0;
-        do {
-            final Vector3i position = nextChunkPosition();
-            final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
-            final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
-            final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
+        while (!this.scannedGroups.isEmpty() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime)) {
+            final ChunkGroup group = this.scannedGroups.peek();
+            if (group.missingChunks == ChunkGroup.UNSCANNED) {
+                // Wait for the scan instead of blocking the main thread
+                break;
+            }
+            this.scannedGroups.poll();
 
             // We can only skip generation if all chunks are loaded.
-            if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
+            if (group.missingChunks != 0) {
 
                 // At least one chunk isn't generated, so to populate, we need to load them all.
-                this.world.loadChunk(position, true);
-                this.world.loadChunk(pos1, true);
-                this.world.loadChunk(pos2, true);
-                this.world.loadChunk(pos3, true);
+                for (Vector3i chunk : group.chunks) {
+                    this.world.loadChunk(chunk, true);
+                    this.loadedChunks.add(chunk);
+                }
 
-                count += this.currentGenCount;
+                count += group.genCount;
             } else {
 
                 // Skipped them, log this.
-                skipped += this.currentGenCount;
+                skipped += group.genCount;
             }
-        } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+        }
+        unloadBehind();
 
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
@@ -281,7 +308,7 @@ public void accept(Task task) {
             return;
         }
 
-        if (!hasNextChunkPosition()) {
+        if (!hasNextChunkPosition() && this.scannedGroups.isEmpty()) {
             // Generation has completed.
             Sponge.getEventManager().post(SpongeEventFactory.createChunkPreGenerationEventComplete(
                     this.cause,
@@ -291,13 +318,120 @@ public void accept(Task task) {
 
             this.isCancelled = true;
             unregisterListener();
+            cancelPreparedChunks();
             task.cancel();
         }
     }
 
-    private boolean areAllChunksLoaded(Vector3i chunk1, Vector3i chunk2, Vector3i chunk3, Vector3i chunk4) {
-        return this.doesChunkExistCheck.test(chunk1) && this.doesChunkExistCheck.test(chunk2) &&
-                this.doesChunkExistCheck.test(chunk3) && this.doesChunkExistCheck.test(chunk4);
+    /**
+     * Walks the spiral ahead of the generation and checks which chunks of
+     * the upcoming groups already exist, in batches off the main thread.
+     */
+    private void scanAhead() {
+        List<ChunkGroup> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        while (this.scannedGroups.size() < SCAN_AHEAD && hasNextChunkPosition()) {
+            // The layer is advanced when the position after the last one of the layer is computed
+            final int layer = this.currentLayer;
+            final ChunkGroup group = new ChunkGroup(nextChunkPosition(), this.currentGenCount, layer);
+            this.scannedGroups.add(group);
+            batch.add(group);
+            if (batch.size() == SCAN_BATCH_SIZE) {
+                scan(batch);
+                batch = new ArrayList<>(SCAN_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            scan(batch);
+        }
+    }
+
+    private void scan(List<ChunkGroup> batch) {
+        final IMixinAnvilChunkLoader chunkLoader = this.chunkLoader;
+        if (chunkLoader == null) {
+            batch.forEach(group -> group.missingChunks = ChunkGroup.ALL_MISSING);
+            return;
+        }
+        SpongeImpl.getScheduler().submitAsyncTask(() -> {
+            for (ChunkGroup group : batch) {
+                int missing = 0;
+                try {
+                    for (int i = 0; i < group.chunks.length; i++) {
+                        if (!chunkLoader.chunkExistsInRegion(group.chunks[i].getX(), group.chunks[i].getZ())) {
+                            missing |= 1 << i;
+                        }
+                    }
+                } catch (Exception e) {
+                    // Let the main thread load them, loading an existing chunk is harmless
+                    missing = ChunkGroup.ALL_MISSING;
+                }
+                group.missingChunks = missing;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Hands the missing chunks of the scanned groups to the terrain
+     * generation workers, if the generator of the world supports it.
+     */
+    private void prepareScannedChunks() {
+        final IChunkGenerator generator = ((WorldServer) this.world).getChunkProvider().chunkGenerator;
+        if (!(generator instanceof SpongeChunkGenerator) || !((SpongeChunkGenerator) generator).canGenerateConcurrently()) {
+            return;
+        }
+        final List<ChunkPos> missing = new ArrayList<>();
+        for (ChunkGroup group : this.scannedGroups) {
+            final int missingChunks = group.missingChunks;
+            if (missingChunks == ChunkGroup.UNSCANNED) {
+                break;
+            }
+            if (group.prepared) {
+                continue;
+            }
+            missing.clear();
+            for (int i = 0; i < group.chunks.length; i++) {
+                if ((missingChunks & (1 << i)) != 0) {
+                    missing.add(new ChunkPos(group.chunks[i].getX(), group.chunks[i].getZ()));
+                }
+            }
+            if (!missing.isEmpty() && ((SpongeChunkGenerator) generator).prepareChunks(missing) == 0) {
+                // The workers are saturated, try again next step
+                break;
+            }
+            group.prepared = true;
+        }
+    }
+
+    /**
+     * Queues the chunks loaded by this task for unloading, and so saving,
+     * once the generation is far enough away that they aren't needed to
+     * populate their neighbors anymore. The scan runs ahead of the
+     * generation, so the distance is based on the layer of the oldest group
+     * that still has to be generated.
+     */
+    private void unloadBehind() {
+        final ChunkGroup nextGroup = this.scannedGroups.peek();
+        final int generatingLayer = nextGroup == null ? this.currentLayer : nextGroup.layer;
+        final int minDistance = generatingLayer * 2 - UNLOAD_DISTANCE;
+        if (minDistance <= 0) {
+            return;
+        }
+        final WorldServer worldServer = (WorldServer) this.world;
+        final ChunkProviderServer chunkProvider = worldServer.getChunkProvider();
+        final IMixinPlayerChunkMap playerChunkMap = (IMixinPlayerChunkMap) worldServer.getPlayerChunkMap();
+        while (!this.loadedChunks.isEmpty()) {
+            final Vector3i chunkPos = this.loadedChunks.peek();
+            final int distance = Math.max(Math.abs(chunkPos.getX() - this.centerChunk.getX()), Math.abs(chunkPos.getZ() - this.centerChunk.getZ()));
+            if (distance >= minDistance) {
+                break;
+            }
+            this.loadedChunks.poll();
+            final Chunk chunk = ((IMixinChunkProviderServer) chunkProvider).getLoadedChunkWithoutMarkingActive(chunkPos.getX(), chunkPos.getZ());
+            if (chunk == null || chunk.unloadQueued || playerChunkMap.isChunkInUse(chunk.x, chunk.z)) {
+                continue;
+            }
+            chunkProvider.queueUnload(chunk);
+        }
     }
 
     private void unregisterListener() {
@@ -315,6 +449,18 @@ private void cancelTask(Task task) {
 
         this.isCancelled = true;
         unregisterListener();
+        cancelPreparedChunks();
+    }
+
+    /**
+     * Drops the terrain prepared for chunks this task won't generate
+     * anymore.
+     */
+    private void cancelPreparedChunks() {
+        final IChunkGenerator generator = ((WorldServer) this.world).getChunkProvider().chunkGenerator;
+        if (generator instanceof SpongeChunkGenerator) {
+            ((SpongeChunkGenerator) generator).cancelPreparedChunks();
+        }
     }
 
     private boolean hasNextChunkPosition() {
@@ -351,9 +497,32 @@ private boolean checkTickTime(long tickTime) {
         return this.tickPercent <= 0 || tickTime < this.tickTimeLimit;
     }
 
+    private static final class ChunkGroup {
+
+        static final int UNSCANNED = -1;
+        static final int ALL_MISSING = 0b1111;
+
+        // The chunk at the spiral position and its neighbors towards negative x and z
+        final Vector3i[] chunks;
+        final int genCount;
+        // The spiral layer of the position
+        final int layer;
+        // A bit for each missing chunk, set by the scan
+        volatile int missingChunks = UNSCANNED;
+        boolean prepared;
+
+        ChunkGroup(Vector3i position, int genCount, int layer) {
+            final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
+            this.chunks = new Vector3i[] {position, position.sub(Vector3i.UNIT_X), pos2, pos2.sub(Vector3i.UNIT_X)};
+            this.genCount = genCount;
+            this.layer = layer;
+        }
+    }
+
     public static class Builder implements ChunkPreGenerate.Builder {
 
         private static final String TIME_FORMAT = "s's 'S'ms'";
+        private static final String ETA_FORMAT = "H'h 'm'm 's's'";
 
         private final World world;
         private final Vector3d center;
@@ -388,11 +557,16 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                 this.addListener(event -> {
                     if (event instanceof ChunkPreGenerationEvent.Post) {
                         ChunkPreGenerationEvent.Post post = (ChunkPreGenerationEvent.Post) event;
-                        logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
+                        final ChunkPreGenerate preGenerate = post.getChunkPreGenerate();
+                        final int processed = preGenerate.getTotalGeneratedChunks() + preGenerate.getTotalSkippedChunks();
+                        final long totalMillis = Math.max(1, preGenerate.getTotalTime().toMillis());
+                        final long etaMillis = processed == 0 ? 0
+                            : Math.max(0, preGenerate.getTargetTotalChunks() - processed) * totalMillis / processed;
+                        logger.info("Generated {} chunks in {}, {}% complete ({} chunks/s, ETA {})", post.getChunksGeneratedThisStep(),
                             DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
-                            GenericMath.floor(
-                                100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
-                                    / post.getChunkPreGenerate().getTargetTotalChunks())
+                            GenericMath.floor(100 * processed / preGenerate.getTargetTotalChunks()),
+                            preGenerate.getTotalGeneratedChunks() * 1000L / totalMillis,
+                            DurationFormatUtils.formatDuration(etaMillis, ETA_FORMAT, false)
                         );
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
                         logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
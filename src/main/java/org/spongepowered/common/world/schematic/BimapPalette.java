@@ -24,34 +24,61 @@
  */
 package org.spongepowered.common.world.schematic;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.world.schematic.BlockPalette;
 import org.spongepowered.api.world.schematic.BlockPaletteType;
 import org.spongepowered.api.world.schematic.BlockPaletteTypes;
 
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
+/**
+ * A local palette. Ids map to states through a plain array, and states map
+ * back to ids through an open addressed map without boxing.
+ */
 public class BimapPalette implements BlockPalette {
 
     private static final int DEFAULT_ALLOCATION_SIZE = 64;
 
-    private final BiMap<Integer, BlockState> ids;
-    private final BiMap<BlockState, Integer> idsr;
-    private final BitSet allocation = new BitSet(DEFAULT_ALLOCATION_SIZE);
+    private BlockState[] ids;
+    // Block states are singletons, so they are looked up by identity
+    private final Reference2IntMap<BlockState> idsr;
+    private final BitSet allocation;
     private int maxId = 0;
 
     public BimapPalette() {
-        this.ids = HashBiMap.create();
-        this.idsr = this.ids.inverse();
+        this(DEFAULT_ALLOCATION_SIZE);
     }
 
     public BimapPalette(int expectedSize) {
-        this.ids = HashBiMap.create(expectedSize);
-        this.idsr = this.ids.inverse();
+        this.ids = new BlockState[Math.max(expectedSize, 1)];
+        this.idsr = new Reference2IntOpenHashMap<>(expectedSize);
+        this.idsr.defaultReturnValue(-1);
+        this.allocation = new BitSet(expectedSize);
+    }
+
+    private BimapPalette(BimapPalette original) {
+        this.ids = original.ids.clone();
+        this.idsr = new Reference2IntOpenHashMap<>(original.idsr);
+        this.idsr.defaultReturnValue(-1);
+        this.allocation = (BitSet) original.allocation.clone();
+        this.maxId = original.maxId;
+    }
+
+    /**
+     * Creates a copy of this palette, which may be modified independently.
+     *
+     * @return The copy
+     */
+    public BimapPalette copy() {
+        return new BimapPalette(this);
     }
 
     @Override
@@ -64,21 +91,37 @@ public int getHighestId() {
         return this.maxId;
     }
 
+    /**
+     * Gets the amount of states in this palette.
+     *
+     * @return The amount of states
+     */
+    public int size() {
+        return this.idsr.size();
+    }
+
     @Override
     public Optional<Integer> get(BlockState state) {
-        return Optional.ofNullable(this.idsr.get(state));
+        final int id = this.idsr.getInt(state);
+        return id == -1 ? Optional.empty() : Optional.of(id);
+    }
+
+    /**
+     * Gets the id of the state without boxing.
+     *
+     * @param state The state
+     * @return The id, or -1 if the state has no id
+     */
+    public int getId(BlockState state) {
+        return this.idsr.getInt(state);
     }
 
     @Override
     public int getOrAssign(BlockState state) {
-        Integer id = this.idsr.get(state);
-        if (id == null) {
+        final int id = this.idsr.getInt(state);
+        if (id == -1) {
             int next = this.allocation.nextClearBit(0);
-            if (this.maxId < next) {
-                this.maxId = next;
-            }
-            this.allocation.set(next);
-            this.ids.put(next, state);
+            this.assign(state, next);
             return next;
         }
         return id;
@@ -86,34 +129,68 @@ public int getOrAssign(BlockState state) {
 
     @Override
     public Optional<BlockState> get(int id) {
-        return Optional.ofNullable(this.ids.get(id));
+        return Optional.ofNullable(this.getState(id));
+    }
+
+    /**
+     * Gets the state with the id without wrapping it in an optional.
+     *
+     * @param id The id
+     * @return The state, or null if the id isn't assigned
+     */
+    @Nullable
+    public BlockState getState(int id) {
+        return id >= 0 && id < this.ids.length ? this.ids[id] : null;
     }
 
     public void assign(BlockState state, int id) {
+        final int previousId = this.idsr.getInt(state);
+        if (previousId != -1 && previousId != id) {
+            // Like a bimap, a state can only have one id
+            throw new IllegalArgumentException("value already present: " + state);
+        }
         if (this.maxId < id) {
             this.maxId = id;
         }
+        if (id >= this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, Math.max(id + 1, this.ids.length * 2));
+        }
+        final BlockState previous = this.ids[id];
+        if (previous != null) {
+            this.idsr.removeInt(previous);
+        }
+        this.idsr.put(state, id);
         this.allocation.set(id);
-        this.ids.put(id, state);
+        this.ids[id] = state;
     }
 
     @Override
     public boolean remove(BlockState state) {
-        Integer id = this.idsr.get(state);
-        if (id == null) {
+        final int id = this.idsr.removeInt(state);
+        if (id == -1) {
             return false;
         }
         this.allocation.clear(id);
+        this.ids[id] = null;
         if (id == this.maxId) {
-            this.maxId = this.allocation.previousSetBit(this.maxId);
+            this.maxId = Math.max(0, this.allocation.previousSetBit(this.maxId));
         }
-        this.ids.remove(id);
         return true;
     }
 
+    /**
+     * Removes every state from this palette.
+     */
+    public void clear() {
+        Arrays.fill(this.ids, null);
+        this.idsr.clear();
+        this.allocation.clear();
+        this.maxId = 0;
+    }
+
     @Override
     public Collection<BlockState> getEntries() {
-        return this.idsr.keySet();
+        return Collections.unmodifiableCollection(this.idsr.keySet());
     }
 
 }
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.schematic.BlockPalette;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import javax.annotation.Nullable;
+
+/**
+ * Encodes and decodes the VarInt block data of a schematic in chunks, so
+ * the block data can be streamed from and to a channel or a memory mapped
+ * file without holding the whole encoded array in memory.
+ *
+ * <p>The blocks are ordered like in the schematic format, that is by the
+ * index {@code (y * length + z) * width + x}. The block data has to hold
+ * exactly one id per block of the volume, missing or trailing data is
+ * rejected.</p>
+ */
+public final class SchematicBlockData {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Encodes the block data of the volume to the channel. Ids are assigned
+     * in the palette for any block that doesn't have one yet.
+     *
+     * @param volume The volume to encode
+     * @param palette The palette to get the ids from
+     * @param channel The channel to write to
+     * @throws IOException If the channel could not be written to
+     */
+    public static void write(BlockVolume volume, BlockPalette palette, WritableByteChannel channel) throws IOException {
+        final int xMin = volume.getBlockMin().getX();
+        final int yMin = volume.getBlockMin().getY();
+        final int zMin = volume.getBlockMin().getZ();
+        final int xMax = volume.getBlockMax().getX();
+        final int yMax = volume.getBlockMax().getY();
+        final int zMax = volume.getBlockMax().getZ();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        for (int y = yMin; y <= yMax; y++) {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int x = xMin; x <= xMax; x++) {
+                    // A VarInt is at most 5 bytes long
+                    if (buffer.remaining() < 5) {
+                        flush(buffer, channel);
+                    }
+                    int id = palette.getOrAssign(volume.getBlock(x, y, z));
+                    while ((id & -128) != 0) {
+                        buffer.put((byte) (id & 127 | 128));
+                        id >>>= 7;
+                    }
+                    buffer.put((byte) id);
+                }
+            }
+        }
+        flush(buffer, channel);
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Decodes block data from the channel into the volume, reading it
+     * through a fixed size buffer.
+     *
+     * @param channel The channel to read from
+     * @param palette The palette to resolve the ids with
+     * @param volume The volume to place the blocks in
+     * @param cause The cause to set the blocks with
+     * @throws IOException If the channel could not be read from
+     * @throws InvalidDataException If the block data is corrupted
+     */
+    public static void read(ReadableByteChannel channel, BlockPalette palette, MutableBlockVolume volume, Cause cause) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.flip();
+        decode(channel, buffer, palette, volume, cause);
+    }
+
+    /**
+     * Decodes block data from the buffer into the volume. The buffer may be
+     * a memory mapped file.
+     *
+     * @param data The encoded block data
+     * @param palette The palette to resolve the ids with
+     * @param volume The volume to place the blocks in
+     * @param cause The cause to set the blocks with
+     * @throws InvalidDataException If the block data is corrupted
+     */
+    public static void read(ByteBuffer data, BlockPalette palette, MutableBlockVolume volume, Cause cause) {
+        try {
+            decode(null, data, palette, volume, cause);
+        } catch (IOException e) {
+            // Never thrown without a channel
+            throw new InvalidDataException(e);
+        }
+    }
+
+    private static void decode(@Nullable ReadableByteChannel channel, ByteBuffer buffer, BlockPalette palette, MutableBlockVolume volume,
+            Cause cause) throws IOException {
+        final int xMin = volume.getBlockMin().getX();
+        final int yMin = volume.getBlockMin().getY();
+        final int zMin = volume.getBlockMin().getZ();
+        final int xMax = volume.getBlockMax().getX();
+        final int yMax = volume.getBlockMax().getY();
+        final int zMax = volume.getBlockMax().getZ();
+        // Resolve every id only once, instead of going through an optional per block
+        final BlockState[] states = new BlockState[palette.getHighestId() + 1];
+        for (int y = yMin; y <= yMax; y++) {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int x = xMin; x <= xMax; x++) {
+                    int value = 0;
+                    int varIntLength = 0;
+                    while (true) {
+                        if (!buffer.hasRemaining() && !fill(channel, buffer)) {
+                            throw new InvalidDataException(varIntLength == 0
+                                    ? "Block data ended before the block at " + x + ", " + y + ", " + z
+                                    : "VarInt was cut off (probably corrupted data)");
+                        }
+                        final byte b = buffer.get();
+                        value |= (b & 127) << (varIntLength++ * 7);
+                        if (varIntLength > 5) {
+                            throw new InvalidDataException("VarInt too big (probably corrupted data)");
+                        }
+                        if ((b & 128) != 128) {
+                            break;
+                        }
+                    }
+                    volume.setBlock(x, y, z, getState(states, palette, value), cause);
+                }
+            }
+        }
+        if (buffer.hasRemaining() || fill(channel, buffer)) {
+            throw new InvalidDataException("Block data continues past the end of the volume");
+        }
+    }
+
+    private static BlockState getState(BlockState[] states, BlockPalette palette, int id) {
+        BlockState state = id >= 0 && id < states.length ? states[id] : null;
+        if (state == null) {
+            state = palette.get(id).orElseThrow(() -> new InvalidDataException("Unknown block id " + id + " in the block data"));
+            if (id >= 0 && id < states.length) {
+                states[id] = state;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Reads the next chunk of the channel into the buffer.
+     *
+     * @param channel The channel, or null if the buffer holds all data
+     * @param buffer The buffer to fill
+     * @return Whether any data was read
+     */
+    private static boolean fill(@Nullable ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        if (channel == null) {
+            return false;
+        }
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        return read > 0;
+    }
+
+    private SchematicBlockData() {
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads the chunks a fast moving player is about to see ahead of time, so
+ * loading them once they come into view doesn't wait on the disk.
+ *
+ * <p>Players report how far they have moved every {@link #INTERVAL} ticks.
+ * The view area around where they will be {@link #LOOKAHEAD} intervals from
+ * now is compared to the one around them, and the chunks only in the former
+ * that aren't loaded yet are prefetched by the chunk loader of their world
+ * on a small pool of IO threads, nearest along the heading of the player
+ * first.</p>
+ */
+public final class ChunkPreloader {
+
+    /**
+     * The number of ticks between predictions for a player.
+     */
+    public static final int INTERVAL = 10;
+    private static final int LOOKAHEAD = 4;
+    // Players moving slower than this per interval can be kept up with on demand (~8 blocks per second)
+    private static final double MIN_DISTANCE_SQUARED = 4.0D * 4.0D;
+    // Anything faster than this is a teleport rather than movement that will continue
+    private static final double MAX_DISTANCE_SQUARED = 64.0D * 64.0D;
+    private static final int MAX_IN_FLIGHT = 64;
+    // The number of seconds between purges of expired prefetches
+    private static final long PURGE_INTERVAL = 10;
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Prefetches the chunks ahead of a player.
+     *
+     * @param world The world of the player
+     * @param posX The x position of the player
+     * @param posZ The z position of the player
+     * @param distanceX The distance moved along x during the last interval
+     * @param distanceZ The distance moved along z during the last interval
+     */
+    public static void preloadAhead(WorldServer world, double posX, double posZ, double distanceX, double distanceZ) {
+        final double distanceSquared = distanceX * distanceX + distanceZ * distanceZ;
+        if (distanceSquared < MIN_DISTANCE_SQUARED || distanceSquared > MAX_DISTANCE_SQUARED) {
+            return;
+        }
+        if (!(((World) world).getWorldStorage() instanceof IMixinAnvilChunkLoader)) {
+            return;
+        }
+        final IMixinAnvilChunkLoader chunkLoader = (IMixinAnvilChunkLoader) ((World) world).getWorldStorage();
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) world.getChunkProvider();
+        final int radius = SpongeImpl.getServer().getPlayerList().getViewDistance();
+        final int chunkX = MathHelper.floor(posX) >> 4;
+        final int chunkZ = MathHelper.floor(posZ) >> 4;
+        final int futureChunkX = MathHelper.floor(posX + distanceX * LOOKAHEAD) >> 4;
+        final int futureChunkZ = MathHelper.floor(posZ + distanceZ * LOOKAHEAD) >> 4;
+
+        final List<ChunkPos> candidates = new ArrayList<>();
+        for (int x = futureChunkX - radius; x <= futureChunkX + radius; x++) {
+            for (int z = futureChunkZ - radius; z <= futureChunkZ + radius; z++) {
+                if (Math.abs(x - chunkX) <= radius && Math.abs(z - chunkZ) <= radius) {
+                    // Already in view, so it is loaded or being loaded
+                    continue;
+                }
+                if (chunkProvider.getLoadedChunkWithoutMarkingActive(x, z) != null) {
+                    continue;
+                }
+                candidates.add(new ChunkPos(x, z));
+            }
+        }
+        // The chunks the player reaches first along their heading are needed first
+        candidates.sort(Comparator.comparingDouble(pos -> (pos.x - chunkX) * distanceX + (pos.z - chunkZ) * distanceZ));
+        for (ChunkPos pos : candidates) {
+            if (inFlight.incrementAndGet() > MAX_IN_FLIGHT) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            Workers.EXECUTOR.execute(() -> {
+                try {
+                    chunkLoader.prefetchChunk(pos.x, pos.z);
+                } catch (Exception e) {
+                    SpongeImpl.getLogger().debug("Failed to prefetch chunk {}, {}", pos.x, pos.z, e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Schedules a purge of the expired prefetches of a chunk loader on the
+     * preloader threads.
+     *
+     * @param purge The purge
+     */
+    public static void schedulePurge(Runnable purge) {
+        Workers.EXECUTOR.schedule(purge, PURGE_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    private ChunkPreloader() {
+    }
+
+    private static final class Workers {
+
+        static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(2,
+                new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Preloader #%d").setDaemon(true).build());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.interfaces.IMixinSaveHandler;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.world.WorldManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads the data of a player that is logging in, and the chunks around where
+ * they logged out, on a worker thread. By the time the player joins on the
+ * main thread the reads have usually finished, and the player list and chunk
+ * loader use the prefetched data instead of reading it again.
+ *
+ * <p>Everything here is best effort. If anything is missing or has changed
+ * by the time the player joins, the data is read as usual.</p>
+ */
+public final class PlayerLoginPrefetcher {
+
+    private static final String DIMENSION = "Dimension";
+    private static final int CHUNK_RADIUS = 1;
+
+    public static void prefetch(UUID uniqueId) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().usePrefetchLoginData()) {
+            return;
+        }
+        SpongeImpl.getScheduler().submitAsyncTask(() -> {
+            try {
+                prefetchNow(uniqueId);
+            } catch (Exception e) {
+                SpongeImpl.getLogger().debug("Failed to prefetch the data of player {}", uniqueId, e);
+            }
+            return null;
+        });
+    }
+
+    private static void prefetchNow(UUID uniqueId) {
+        final Optional<WorldServer> defaultWorld = WorldManager.getWorldByDimensionId(0);
+        if (!defaultWorld.isPresent()) {
+            return;
+        }
+        final NBTTagCompound compound = ((IMixinSaveHandler) defaultWorld.get().getSaveHandler()).prefetchPlayerData(uniqueId);
+        if (compound == null) {
+            // New players spawn wherever the login event puts them
+            return;
+        }
+        final NBTTagList position = compound.getTagList(NbtDataUtil.ENTITY_POSITION, NbtDataUtil.TAG_DOUBLE);
+        final Optional<WorldServer> world = WorldManager.getWorldByDimensionId(compound.getInteger(DIMENSION));
+        if (position.tagCount() != 3 || !world.isPresent() || !(((World) world.get()).getWorldStorage() instanceof IMixinAnvilChunkLoader)) {
+            return;
+        }
+        final IMixinAnvilChunkLoader chunkLoader = (IMixinAnvilChunkLoader) ((World) world.get()).getWorldStorage();
+        final int chunkX = MathHelper.floor(position.getDoubleAt(0)) >> 4;
+        final int chunkZ = MathHelper.floor(position.getDoubleAt(2)) >> 4;
+        for (int x = -CHUNK_RADIUS; x <= CHUNK_RADIUS; x++) {
+            for (int z = -CHUNK_RADIUS; z <= CHUNK_RADIUS; z++) {
+                chunkLoader.prefetchChunk(chunkX + x, chunkZ + z);
+            }
+        }
+    }
+
+    private PlayerLoginPrefetcher() {
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * The saved data of a chunk, read before the chunk is loaded. The data is
+ * only available once the read has finished.
+ */
+public final class PrefetchedChunk {
+
+    /**
+     * The maximum amount of finished prefetches a chunk loader retains.
+     */
+    public static final int MAX_RETAINED = 256;
+    private static final long EXPIRY = TimeUnit.SECONDS.toNanos(30);
+
+    private final ChunkPos pos;
+    private final long created = System.nanoTime();
+    @Nullable private volatile NBTTagCompound compound;
+
+    public PrefetchedChunk(ChunkPos pos) {
+        this.pos = pos;
+    }
+
+    public ChunkPos getPos() {
+        return this.pos;
+    }
+
+    @Nullable
+    public NBTTagCompound getCompound() {
+        return this.compound;
+    }
+
+    public void setCompound(NBTTagCompound compound) {
+        this.compound = compound;
+    }
+
+    public boolean isExpired(long now) {
+        return now - this.created > EXPIRY;
+    }
+}
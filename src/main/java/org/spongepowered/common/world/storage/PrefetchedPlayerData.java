@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The data file of a player, read before the player joins.
+ */
+public final class PrefetchedPlayerData {
+
+    private static final long EXPIRY = TimeUnit.SECONDS.toNanos(30);
+
+    private final long created = System.nanoTime();
+    private final NBTTagCompound compound;
+    private final FileTime lastModified;
+    private final long size;
+
+    public PrefetchedPlayerData(NBTTagCompound compound, BasicFileAttributes attributes) {
+        this.compound = compound;
+        this.lastModified = attributes.lastModifiedTime();
+        this.size = attributes.size();
+    }
+
+    public NBTTagCompound getCompound() {
+        return this.compound;
+    }
+
+    /**
+     * Gets whether the file still looks the way it did when it was read.
+     *
+     * @param attributes The current attributes of the file
+     * @return True if the file is unchanged
+     */
+    public boolean isUnchanged(BasicFileAttributes attributes) {
+        return this.lastModified.equals(attributes.lastModifiedTime()) && this.size == attributes.size();
+    }
+
+    public boolean isExpired(long now) {
+        return now - this.created > EXPIRY;
+    }
+}
@@ -39,16 +39,22 @@ public class SpongeChunkDataStream implements ChunkDataStream {
 
     private static class RegionFileItr {
 
-        private final RegionFile file;
+        private final Path path;
         public int index;
 
-        public RegionFileItr(RegionFile regionFile) {
-            this.file = regionFile;
+        public RegionFileItr(Path path) {
+            this.path = path;
+        }
+
+        // The region file cache may have evicted and closed the file since
+        // the last call, so it is looked up again every time
+        private RegionFile getFile() {
+            return WorldStorageUtil.getRegionFile(this.path);
         }
 
         public int getNext() {
             int index = this.index;
-            int[] offsets = this.file.offsets;
+            int[] offsets = getFile().offsets;
             while (index != -1 && index < offsets.length && offsets[index] == 0) {
                 index++;
             }
@@ -61,7 +67,7 @@ public int getNext() {
         public DataInputStream getStreamAt(int index) {
             int x = index & 31;
             int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
+            return getFile().getChunkDataInputStream(x, z);
         }
 
     }
@@ -81,7 +87,7 @@ private boolean itrAvailable() {
         Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
         for (Path file : files) {
             if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
+                this.regionFileItr = new RegionFileItr(file);
                 this.openedFiles.add(file);
                 return true;
             }
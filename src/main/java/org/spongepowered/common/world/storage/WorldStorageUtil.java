@@ -45,6 +45,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -102,17 +103,45 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
     // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
-        File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
-        if (regionFile != null) {
+        return getRegionFile(regionFilePath.toFile());
+    }
+
+    public static RegionFile getRegionFile(File file) {
+        synchronized (RegionFileCache.class) {
+            RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
+            if (regionFile != null) {
+                return regionFile;
+            }
+            evictRegionFiles();
+            regionFile = new RegionFile(file);
+            RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
             return regionFile;
         }
-        if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
+    }
+
+    /**
+     * Closes the least recently used region files until there is room for
+     * one more in the region file cache. The cache is ordered by access, so
+     * only the eldest entries are evicted instead of the whole cache.
+     *
+     * <p>Must be called while holding the lock of {@link RegionFileCache}.</p>
+     */
+    public static void evictRegionFiles() {
+        final int maxSize = Math.max(1, SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getRegionFileCacheSize());
+        final Iterator<RegionFile> iterator = RegionFileCache.REGIONS_BY_FILE.values().iterator();
+        while (RegionFileCache.REGIONS_BY_FILE.size() >= maxSize && iterator.hasNext()) {
+            final RegionFile regionFile = iterator.next();
+            iterator.remove();
+            // Let a read or write that is still running on another thread finish first, later writes
+            // through a chunk buffer of this region file are handed to the region file then in the cache
+            synchronized (regionFile) {
+                try {
+                    regionFile.close();
+                } catch (IOException e) {
+                    SpongeImpl.getLogger().error("Could not close evicted region file", e);
+                }
+            }
         }
-        regionFile = new RegionFile(file);
-        RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
-        return regionFile;
     }
 
 }
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+public class CommandAliasTrieTest {
+
+    @Test
+    public void testPrefixLookup() {
+        final CommandAliasTrie trie = new CommandAliasTrie();
+        trie.add("sponge");
+        trie.add("sponge:sponge");
+        trie.add("say");
+        trie.add("tp");
+        assertEquals(ImmutableList.of("say", "sponge", "sponge:sponge"), trie.getWithPrefix("s"));
+        assertEquals(ImmutableList.of("sponge", "sponge:sponge"), trie.getWithPrefix("SPO"));
+        assertEquals(ImmutableList.of("say", "sponge", "sponge:sponge", "tp"), trie.getWithPrefix(""));
+        assertTrue(trie.getWithPrefix("x").isEmpty());
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    public void testSharedAliasRemoval() {
+        final CommandAliasTrie trie = new CommandAliasTrie();
+        trie.add("tp");
+        trie.add("tp");
+        trie.add("tpa");
+        assertFalse(trie.remove("tp"));
+        assertTrue(trie.contains("tp"));
+        assertTrue(trie.remove("tp"));
+        assertFalse(trie.contains("tp"));
+        assertEquals(ImmutableList.of("tpa"), trie.getWithPrefix("t"));
+        assertTrue(trie.remove("tpa"));
+        assertTrue(trie.getWithPrefix("").isEmpty());
+        assertEquals(0, trie.size());
+        assertFalse(trie.remove("missing"));
+    }
+}
@@ -28,16 +28,22 @@
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.CollideBlockEvent;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.common.InjectedTest;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 public class ShouldFireTest extends InjectedTest {
 
@@ -109,6 +115,60 @@ public void testMultipleListeners() {
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
     }
 
+    @Test
+    public void testHasListeners() {
+        SubListener listener = new SubListener();
+
+        Assert.assertFalse("SpawnEntityEvent has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.class));
+        Assert.assertFalse("SpawnEntityEvent.Custom has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Custom.class));
+
+        this.eventManager.registerListeners(this.plugin, listener);
+
+        // A listener of a subtype may receive the event, one of an unrelated type may not
+        Assert.assertTrue("SpawnEntityEvent has no listeners!", ShouldFire.hasListeners(SpawnEntityEvent.class));
+        Assert.assertTrue("SpawnEntityEvent.Custom has no listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Custom.class));
+        Assert.assertFalse("SpawnEntityEvent.ChunkLoad has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.ChunkLoad.class));
+        Assert.assertFalse("CollideBlockEvent has listeners!", ShouldFire.hasListeners(CollideBlockEvent.class));
+
+        this.eventManager.unregisterListeners(listener);
+
+        Assert.assertFalse("SpawnEntityEvent has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.class));
+        Assert.assertFalse("SpawnEntityEvent.Custom has listeners!", ShouldFire.hasListeners(SpawnEntityEvent.Custom.class));
+    }
+
+    @Test
+    public void testHasListenersCoversFactoryEvents() {
+        // Every event type the factory can construct, which is every type a guarded fire site may check
+        final Set<Class<? extends Event>> eventTypes = factoryEventTypes();
+        Assert.assertFalse("SpongeEventFactory declares no events!", eventTypes.isEmpty());
+        for (Class<? extends Event> type : eventTypes) {
+            Assert.assertFalse(type.getName() + " has listeners!", ShouldFire.hasListeners(type));
+        }
+
+        AllEventsListener listener = new AllEventsListener();
+        this.eventManager.registerListeners(this.plugin, listener);
+        for (Class<? extends Event> type : eventTypes) {
+            Assert.assertTrue(type.getName() + " has no listeners!", ShouldFire.hasListeners(type));
+        }
+
+        this.eventManager.unregisterListeners(listener);
+        for (Class<? extends Event> type : eventTypes) {
+            Assert.assertFalse(type.getName() + " has listeners!", ShouldFire.hasListeners(type));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Class<? extends Event>> factoryEventTypes() {
+        final Set<Class<? extends Event>> eventTypes = new HashSet<>();
+        for (Method method : SpongeEventFactory.class.getDeclaredMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) && method.getName().startsWith("create")
+                    && Event.class.isAssignableFrom(method.getReturnType())) {
+                eventTypes.add((Class<? extends Event>) method.getReturnType());
+            }
+        }
+        return eventTypes;
+    }
+
     private static class SpawnListener {
 
         @Listener
@@ -121,4 +181,10 @@ private static class SubListener {
         public void onCustom(SpawnEntityEvent.Custom event) {}
     }
 
+    private static class AllEventsListener {
+
+        @Listener
+        public void onEvent(Event event) {}
+    }
+
 }
@@ -0,0 +1,53 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class BlockNotificationBatchTest {
+
+    @Test
+    public void testMergeUpdatingFlags() {
+        assertEquals(3, BlockNotificationBatch.mergeFlags(1, 2));
+        assertEquals(3, BlockNotificationBatch.mergeFlags(3, 2));
+    }
+
+    @Test
+    public void testMergeKeepsObserverUpdates() {
+        // Observers are only skipped if neither change wants them to be notified
+        assertEquals(2, BlockNotificationBatch.mergeFlags(2 | 16, 2));
+        assertEquals(3, BlockNotificationBatch.mergeFlags(2 | 16, 1));
+        assertEquals(2 | 16, BlockNotificationBatch.mergeFlags(2 | 16, 2 | 16));
+    }
+
+    @Test
+    public void testMergeKeepsRerender() {
+        assertEquals(2, BlockNotificationBatch.mergeFlags(2 | 4, 2));
+        assertEquals(2 | 4, BlockNotificationBatch.mergeFlags(2 | 4, 2 | 4));
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.mojang.authlib.GameProfile;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.common.entity.player.SpongeUser;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.UUID;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class UserCacheTest {
+
+    @Test
+    public void testMissingDataIsCached() {
+        final UserCache cache = new UserCache(100);
+        final GameProfile profile = new GameProfile(UUID.randomUUID(), "missing");
+
+        assertNull(cache.putStored(profile, null));
+        final User user = cache.get(profile.getId());
+        assertNotNull(user);
+        assertEquals(profile.getId(), user.getUniqueId());
+    }
+
+    @Test
+    public void testStoredDataIsCached() {
+        final UserCache cache = new UserCache(100);
+        final GameProfile profile = new GameProfile(UUID.randomUUID(), "stored");
+
+        final User user = cache.putStored(profile, new UserCache.StoredData(null, 0));
+        assertNotNull(user);
+        assertSame(user, cache.get(profile.getId()));
+    }
+
+    @Test
+    public void testEvictedUserIsReusedWhileReferenced() {
+        // Only one user fits into the cache
+        final UserCache cache = new UserCache(1);
+        final GameProfile first = new GameProfile(UUID.randomUUID(), "first");
+        final User user = (User) new SpongeUser(first);
+        cache.put(first.getId(), user);
+        cache.put(UUID.randomUUID(), (User) new SpongeUser(new GameProfile(UUID.randomUUID(), "second")));
+
+        assertSame(user, cache.get(first.getId()));
+    }
+
+}
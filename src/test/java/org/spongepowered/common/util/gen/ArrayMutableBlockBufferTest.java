@@ -0,0 +1,210 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.Block;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.common.world.schematic.BimapPalette;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class ArrayMutableBlockBufferTest {
+
+    // Large enough for the buffer to use its own local palette
+    private static final Vector3i SIZE = new Vector3i(8, 8, 8);
+
+    private final Cause cause = Cause.source(this).build();
+    private final List<BlockState> states = new ArrayList<>();
+    private BlockState air;
+
+    @Before
+    public void init() {
+        this.air = BlockTypes.AIR.getDefaultState();
+        for (Block block : Block.REGISTRY) {
+            final BlockState state = (BlockState) block.getDefaultState();
+            if (state != this.air) {
+                this.states.add(state);
+            }
+        }
+    }
+
+    private ArrayMutableBlockBuffer createBuffer() {
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(Vector3i.ZERO, SIZE);
+        assertTrue(buffer.getPalette() instanceof BimapPalette);
+        return buffer;
+    }
+
+    private void setBlock(ArrayMutableBlockBuffer buffer, int index, BlockState state) {
+        buffer.setBlock(index % 8, index / 64, (index / 8) % 8, state, this.cause);
+    }
+
+    private BlockState getBlock(ArrayMutableBlockBuffer buffer, int index) {
+        return buffer.getBlock(index % 8, index / 64, (index / 8) % 8);
+    }
+
+    @Test
+    public void testGrowBitWidth() {
+        final ArrayMutableBlockBuffer buffer = createBuffer();
+        // Needs 6 bits per block, growing through every smaller width
+        for (int i = 0; i < 40; i++) {
+            setBlock(buffer, i, this.states.get(i));
+        }
+        for (int i = 0; i < 40; i++) {
+            assertEquals(this.states.get(i), getBlock(buffer, i));
+        }
+        for (int i = 40; i < 512; i++) {
+            assertEquals(this.air, getBlock(buffer, i));
+        }
+        assertEquals(40, buffer.getPalette().getHighestId());
+    }
+
+    @Test
+    public void testCompactAfterFreeingIds() {
+        final ArrayMutableBlockBuffer buffer = createBuffer();
+        for (int i = 0; i < 40; i++) {
+            setBlock(buffer, i, this.states.get(i));
+        }
+        // Free every id except the one of the last block and air
+        for (int i = 0; i < 39; i++) {
+            setBlock(buffer, i, this.air);
+        }
+        final BlockPalette palette = buffer.getPalette();
+        // Without compacting, the remaining block would keep the highest id
+        assertTrue(palette.getHighestId() < 4);
+        assertEquals(2, palette.getEntries().size());
+        assertTrue(palette.get(this.air).isPresent());
+        assertTrue(palette.get(this.states.get(39)).isPresent());
+        for (int i = 0; i < 512; i++) {
+            assertEquals(i == 39 ? this.states.get(39) : this.air, getBlock(buffer, i));
+        }
+
+        // The compacted data still has to grow correctly
+        for (int i = 0; i < 10; i++) {
+            setBlock(buffer, 100 + i, this.states.get(i));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(this.states.get(i), getBlock(buffer, 100 + i));
+        }
+        assertEquals(this.states.get(39), getBlock(buffer, 39));
+    }
+
+    @Test
+    public void testFill() {
+        final ArrayMutableBlockBuffer buffer = createBuffer();
+        for (int i = 0; i < 20; i++) {
+            setBlock(buffer, i, this.states.get(i));
+        }
+        final BlockState stone = BlockTypes.STONE.getDefaultState();
+        buffer.fill(stone);
+        for (int i = 0; i < 512; i++) {
+            assertEquals(stone, getBlock(buffer, i));
+        }
+        assertEquals(1, buffer.getPalette().getEntries().size());
+        assertEquals(0, buffer.getPalette().getHighestId());
+
+        setBlock(buffer, 5, this.air);
+        assertEquals(this.air, getBlock(buffer, 5));
+        assertEquals(stone, getBlock(buffer, 4));
+    }
+
+    @Test
+    public void testReplace() {
+        final ArrayMutableBlockBuffer buffer = createBuffer();
+        final BlockState stone = BlockTypes.STONE.getDefaultState();
+        final BlockState dirt = BlockTypes.DIRT.getDefaultState();
+        for (int i = 0; i < 512; i += 2) {
+            setBlock(buffer, i, stone);
+        }
+
+        // Dirt isn't used yet, so it takes over the id of stone
+        final int stoneId = buffer.getPalette().get(stone).get();
+        buffer.replace(stone, dirt);
+        assertEquals(stoneId, (int) buffer.getPalette().get(dirt).get());
+        assertFalse(buffer.getPalette().get(stone).isPresent());
+        for (int i = 0; i < 512; i++) {
+            assertEquals(i % 2 == 0 ? dirt : this.air, getBlock(buffer, i));
+        }
+
+        // Both blocks are used, so the replaced block is freed
+        buffer.replace(this.air, dirt);
+        for (int i = 0; i < 512; i++) {
+            assertEquals(dirt, getBlock(buffer, i));
+        }
+        assertFalse(buffer.getPalette().get(this.air).isPresent());
+        assertEquals(1, buffer.getPalette().getEntries().size());
+    }
+
+    @Test
+    public void testBufferReusesFreedIds() {
+        final ArrayMutableBlockBuffer buffer = createBuffer();
+        for (int i = 0; i < 3; i++) {
+            setBlock(buffer, i, this.states.get(i));
+        }
+        final int freedId = buffer.getPalette().get(this.states.get(1)).get();
+        setBlock(buffer, 1, this.air);
+        assertFalse(buffer.getPalette().get(this.states.get(1)).isPresent());
+
+        setBlock(buffer, 1, this.states.get(3));
+        assertEquals(freedId, (int) buffer.getPalette().get(this.states.get(3)).get());
+        assertEquals(3, buffer.getPalette().getHighestId());
+        assertEquals(this.states.get(0), getBlock(buffer, 0));
+        assertEquals(this.states.get(3), getBlock(buffer, 1));
+        assertEquals(this.states.get(2), getBlock(buffer, 2));
+    }
+
+    @Test
+    public void testPaletteReusesFreedIds() {
+        final BimapPalette palette = new BimapPalette();
+        final int first = palette.getOrAssign(this.states.get(0));
+        final int second = palette.getOrAssign(this.states.get(1));
+        final int third = palette.getOrAssign(this.states.get(2));
+        assertNotEquals(first, second);
+        assertNotEquals(second, third);
+
+        assertTrue(palette.remove(this.states.get(1)));
+        assertFalse(palette.remove(this.states.get(1)));
+        assertEquals(second, palette.getOrAssign(this.states.get(3)));
+        assertEquals(third, palette.getHighestId());
+
+        assertTrue(palette.remove(this.states.get(2)));
+        assertEquals(Math.max(first, second), palette.getHighestId());
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PendingPrimerQueueTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void shutdown() {
+        this.release.countDown();
+        this.executor.shutdownNow();
+    }
+
+    private void blockWorker() {
+        this.executor.execute(() -> {
+            try {
+                this.release.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+    }
+
+    @Test
+    public void testGeneratesOffThread() {
+        final PendingPrimerQueue<Thread> queue = new PendingPrimerQueue<>(this.executor, 16, TimeUnit.MINUTES.toNanos(1));
+        assertTrue(queue.submit(1L, Thread::currentThread));
+        final CompletableFuture<Thread> primer = queue.take(1L);
+        assertNotSame(Thread.currentThread(), primer.join());
+        assertNull(queue.take(1L));
+    }
+
+    @Test
+    public void testRejectsWhenFull() {
+        final PendingPrimerQueue<Object> queue = new PendingPrimerQueue<>(this.executor, 2, TimeUnit.MINUTES.toNanos(1));
+        blockWorker();
+        assertTrue(queue.submit(1L, Object::new));
+        assertTrue(queue.submit(2L, Object::new));
+        assertFalse(queue.submit(3L, Object::new));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    public void testPurgesExpiredPrimers() {
+        final PendingPrimerQueue<Object> queue = new PendingPrimerQueue<>(this.executor, 2, 0L);
+        blockWorker();
+        assertTrue(queue.submit(1L, Object::new));
+        assertTrue(queue.submit(2L, Object::new));
+        // Both primers are expired, so they make room for the new one
+        assertTrue(queue.submit(3L, Object::new));
+        assertEquals(1, queue.size());
+        assertNull(queue.take(1L));
+        assertNotNull(queue.take(3L));
+    }
+
+    @Test
+    public void testClearSkipsQueuedGeneration() {
+        final PendingPrimerQueue<Object> queue = new PendingPrimerQueue<>(this.executor, 16, TimeUnit.MINUTES.toNanos(1));
+        final AtomicBoolean generated = new AtomicBoolean();
+        blockWorker();
+        assertTrue(queue.submit(1L, () -> {
+            generated.set(true);
+            return new Object();
+        }));
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertNull(queue.take(1L));
+
+        this.release.countDown();
+        this.executor.shutdown();
+        try {
+            assertTrue(this.executor.awaitTermination(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+        assertFalse(generated.get());
+    }
+
+}
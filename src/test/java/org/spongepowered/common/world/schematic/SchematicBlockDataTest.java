@@ -0,0 +1,127 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import static org.junit.Assert.assertEquals;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.Block;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class SchematicBlockDataTest {
+
+    // Large enough for the block data to span several chunks of the buffer
+    private static final Vector3i SIZE = new Vector3i(64, 64, 64);
+
+    private final Cause cause = Cause.source(this).build();
+    private final List<BlockState> states = new ArrayList<>();
+
+    @Before
+    public void init() {
+        for (Block block : Block.REGISTRY) {
+            this.states.add((BlockState) block.getDefaultState());
+        }
+    }
+
+    private ArrayMutableBlockBuffer createFilledBuffer() {
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(Vector3i.ZERO, SIZE);
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    buffer.setBlock(x, y, z, this.states.get((x + y * 7 + z * 13) % this.states.size()), this.cause);
+                }
+            }
+        }
+        return buffer;
+    }
+
+    private byte[] write(ArrayMutableBlockBuffer buffer) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SchematicBlockData.write(buffer, buffer.getPalette(), Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private void assertSameBlocks(ArrayMutableBlockBuffer expected, ArrayMutableBlockBuffer actual) {
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    assertEquals(expected.getBlock(x, y, z), actual.getBlock(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testChannelRoundTrip() throws IOException {
+        final ArrayMutableBlockBuffer buffer = createFilledBuffer();
+        final byte[] data = write(buffer);
+        final ArrayMutableBlockBuffer read = new ArrayMutableBlockBuffer(Vector3i.ZERO, SIZE);
+        SchematicBlockData.read(Channels.newChannel(new ByteArrayInputStream(data)), buffer.getPalette(), read, this.cause);
+        assertSameBlocks(buffer, read);
+    }
+
+    @Test
+    public void testBufferRoundTrip() throws IOException {
+        final ArrayMutableBlockBuffer buffer = createFilledBuffer();
+        final byte[] data = write(buffer);
+        final ArrayMutableBlockBuffer read = new ArrayMutableBlockBuffer(Vector3i.ZERO, SIZE);
+        SchematicBlockData.read(ByteBuffer.wrap(data), buffer.getPalette(), read, this.cause);
+        assertSameBlocks(buffer, read);
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testTruncatedData() throws IOException {
+        final ArrayMutableBlockBuffer buffer = createFilledBuffer();
+        final byte[] data = write(buffer);
+        SchematicBlockData.read(ByteBuffer.wrap(data, 0, data.length - 1), buffer.getPalette(),
+                new ArrayMutableBlockBuffer(Vector3i.ZERO, SIZE), this.cause);
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testTrailingData() throws IOException {
+        final ArrayMutableBlockBuffer buffer = createFilledBuffer();
+        final byte[] data = write(buffer);
+        SchematicBlockData.read(Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(data, data.length + 1))), buffer.getPalette(),
+                new ArrayMutableBlockBuffer(Vector3i.ZERO, SIZE), this.cause);
+    }
+
+}